@@ -21,6 +21,7 @@ import com.google.common.collect.Lists;
 import io.cloudevents.CloudEvent;
 import java.util.List;
 import java.util.Map;
+import org.apache.rocketmq.eventbridge.adapter.api.converter.EventBodyReader;
 import org.apache.rocketmq.eventbridge.adapter.api.converter.EventConverterAdapter;
 import org.apache.rocketmq.eventbridge.adapter.api.converter.HttpEventConverter;
 import org.apache.rocketmq.eventbridge.adapter.api.dto.data.PutEventsResponse;
@@ -28,6 +29,7 @@ import org.apache.rocketmq.eventbridge.adapter.api.handler.EventDataHandler;
 import org.apache.rocketmq.eventbridge.domain.rpc.AccountAPI;
 import org.apache.rocketmq.eventbridge.event.EventBridgeEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -37,7 +39,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 @RestController
 @RequestMapping("/")
@@ -55,10 +59,18 @@ public class EventDataController {
     @Autowired
     HttpEventConverter httpEventConverter;
 
+    @Autowired
+    EventBodyReader eventBodyReader;
+
     @PostMapping(value = {"putEvents"})
-    public Mono<PutEventsResponse> putEvents(@RequestHeader Map<String, String> headers, @RequestBody byte[] body) {
+    public Mono<PutEventsResponse> putEvents(ServerHttpRequest request, @RequestHeader Map<String, String> headers,
+        @RequestBody Flux<DataBuffer> bodyBuffers) {
+        Mono<byte[]> bodyMono = eventBodyReader.read(bodyBuffers, request.getHeaders());
         return Mono.subscriberContext()
-            .flatMap(ctx -> {
+            .zipWith(bodyMono)
+            .flatMap(tuple -> {
+                Context ctx = tuple.getT1();
+                byte[] body = tuple.getT2();
                 List<CloudEvent> cloudEvents = eventConverterAdapter.toEventsRequest(headers, body);
                 List<EventBridgeEvent> eventList = this.converterEventBridgeEvent(cloudEvents);
                 return eventDataHandler.putEvents(accountAPI.getResourceOwnerAccountId(ctx), eventList);
@@ -67,10 +79,15 @@ public class EventDataController {
 
     @RequestMapping(value = {"webhook/putEvents"})
     public Mono<PutEventsResponse> putHttpEvents(ServerWebExchange serverWebExchange,
-        @RequestHeader Map<String, String> headers, @RequestBody byte[] body, @RequestParam("token") String token) {
+        @RequestHeader Map<String, String> headers, @RequestBody Flux<DataBuffer> bodyBuffers,
+        @RequestParam("token") String token) {
+        ServerHttpRequest request = serverWebExchange.getRequest();
+        Mono<byte[]> bodyMono = eventBodyReader.read(bodyBuffers, request.getHeaders());
         return Mono.subscriberContext()
-            .flatMap(ctx -> {
-                ServerHttpRequest request = serverWebExchange.getRequest();
+            .zipWith(bodyMono)
+            .flatMap(tuple -> {
+                Context ctx = tuple.getT1();
+                byte[] body = tuple.getT2();
                 List<CloudEvent> cloudEvents = httpEventConverter.toEventBridgeEvent(request, body, headers,
                     accountAPI.getResourceOwnerAccountId(ctx), token);
                 List<EventBridgeEvent> eventList = this.converterEventBridgeEvent(cloudEvents);
@@ -33,20 +33,26 @@ import org.apache.rocketmq.eventbridge.adapter.api.dto.rule.GetRuleRequest;
 import org.apache.rocketmq.eventbridge.adapter.api.dto.rule.GetRuleResponse;
 import org.apache.rocketmq.eventbridge.adapter.api.dto.rule.ListRulesRequest;
 import org.apache.rocketmq.eventbridge.adapter.api.dto.rule.ListRulesResponse;
+import org.apache.rocketmq.eventbridge.adapter.api.dto.rule.TestEventPatternRequest;
+import org.apache.rocketmq.eventbridge.adapter.api.dto.rule.TestEventPatternResponse;
 import org.apache.rocketmq.eventbridge.adapter.api.dto.rule.UpdateRuleRequest;
 import org.apache.rocketmq.eventbridge.adapter.api.dto.rule.UpdateRuleResponse;
 import org.apache.rocketmq.eventbridge.adapter.api.dto.target.EventTargetDTO;
+import org.apache.rocketmq.eventbridge.adapter.api.handler.EventPatternTestHandler;
 import org.apache.rocketmq.eventbridge.domain.model.PaginationResult;
 import org.apache.rocketmq.eventbridge.domain.model.rule.EventRule;
 import org.apache.rocketmq.eventbridge.domain.model.rule.EventRuleDetail;
+import org.apache.rocketmq.eventbridge.domain.model.rule.EventPatternTestResult;
 import org.apache.rocketmq.eventbridge.domain.model.rule.EventRuleService;
 import org.apache.rocketmq.eventbridge.domain.rpc.AccountAPI;
 import org.apache.rocketmq.eventbridge.domain.service.EventRuleDomainService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @RestController
@@ -59,6 +65,9 @@ public class EventRuleController {
     @Autowired
     private EventRuleDomainService eventRuleDomainService;
 
+    @Autowired
+    private EventPatternTestHandler eventPatternTestHandler;
+
     @Autowired
     AccountAPI accountAPI;
 
@@ -164,4 +173,21 @@ public class EventRuleController {
             });
     }
 
+    @PostMapping(value = {"testEventPattern"})
+    public Mono<TestEventPatternResponse> testEventPattern(
+        @RequestBody TestEventPatternRequest testEventPatternRequest) {
+        return eventPatternTestHandler.testEventPatternWithSummary(testEventPatternRequest.getEventPattern(),
+            testEventPatternRequest.getEvents());
+    }
+
+    /**
+     * Streams the result of each event as soon as it is tested, the results are not in the order of the events
+     */
+    @PostMapping(value = {"testEventPatternStream"}, produces = MediaType.APPLICATION_STREAM_JSON_VALUE)
+    public Flux<EventPatternTestResult> testEventPatternStream(
+        @RequestBody TestEventPatternRequest testEventPatternRequest) {
+        return eventPatternTestHandler.testEventPattern(testEventPatternRequest.getEventPattern(),
+            testEventPatternRequest.getEvents());
+    }
+
 }
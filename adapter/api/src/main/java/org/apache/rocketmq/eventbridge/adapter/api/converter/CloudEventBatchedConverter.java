@@ -19,8 +19,10 @@ package org.apache.rocketmq.eventbridge.adapter.api.converter;
 
 import com.google.common.base.Strings;
 import io.cloudevents.CloudEvent;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.rocketmq.eventbridge.adapter.api.converter.format.BatchedJsonFormat;
 import org.springframework.stereotype.Service;
 
@@ -31,6 +33,13 @@ public class CloudEventBatchedConverter implements EventConverter {
 
     private static final String HTTP_BATCHED_PROTOCOL_BINDING = "application/cloudevents-batch+json";
 
+    private final BatchedJsonFormat batchedJsonFormat = new BatchedJsonFormat();
+
+    @Override
+    public Set<String> getContentTypes() {
+        return Collections.singleton(HTTP_BATCHED_PROTOCOL_BINDING);
+    }
+
     @Override
     public boolean hit(Map<String, String> headers) {
         String contentType = headers.get(CONTENT_TYPE);
@@ -39,7 +48,7 @@ public class CloudEventBatchedConverter implements EventConverter {
 
     @Override
     public List<CloudEvent> toEventBridgeEvent(Map<String, String> headers, byte[] body) {
-        return new BatchedJsonFormat().deserialize(body);
+        return batchedJsonFormat.deserialize(body);
     }
 }
 
@@ -22,8 +22,10 @@ import com.google.common.collect.Lists;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.http.restful.ws.impl.RestfulWSMessageFactory;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedHashMap;
 import org.springframework.stereotype.Service;
@@ -35,6 +37,11 @@ public class CloudEventBinaryConverter implements EventConverter {
 
     private static final String HTTP_BINARY_PROTOCOL_BINDING = "application/json";
 
+    @Override
+    public Set<String> getContentTypes() {
+        return Collections.singleton(HTTP_BINARY_PROTOCOL_BINDING);
+    }
+
     @Override
     public boolean hit(Map<String, String> headers) {
         String contentType = headers.get(CONTENT_TYPE);
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.adapter.api.converter;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.provider.EventFormatProvider;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+import org.springframework.stereotype.Service;
+
+import static org.apache.http.protocol.HTTP.CONTENT_TYPE;
+import static org.apache.rocketmq.eventbridge.exception.code.EventErrorCode.EventInvalid;
+
+/**
+ * Converts the events in the CloudEvents protobuf format, a single event or a CloudEventBatch message.
+ */
+@Service
+public class CloudEventProtobufConverter implements EventConverter {
+
+    private static final String HTTP_PROTOBUF_PROTOCOL_BINDING = "application/cloudevents+protobuf";
+
+    private static final String HTTP_BATCHED_PROTOBUF_PROTOCOL_BINDING = "application/cloudevents-batch+protobuf";
+
+    /**
+     * The field number of the repeated events of the CloudEventBatch message
+     */
+    private static final int BATCH_EVENTS_FIELD_NUMBER = 1;
+
+    @Override
+    public Set<String> getContentTypes() {
+        return Sets.newHashSet(HTTP_PROTOBUF_PROTOCOL_BINDING, HTTP_BATCHED_PROTOBUF_PROTOCOL_BINDING);
+    }
+
+    @Override
+    public boolean hit(Map<String, String> headers) {
+        String contentType = headers.get(CONTENT_TYPE);
+        return !Strings.isNullOrEmpty(contentType) && (contentType.startsWith(HTTP_PROTOBUF_PROTOCOL_BINDING)
+            || contentType.startsWith(HTTP_BATCHED_PROTOBUF_PROTOCOL_BINDING));
+    }
+
+    @Override
+    public List<CloudEvent> toEventBridgeEvent(Map<String, String> headers, byte[] body) {
+        EventFormat format = EventFormatProvider.getInstance()
+            .resolveFormat(HTTP_PROTOBUF_PROTOCOL_BINDING);
+        if (headers.get(CONTENT_TYPE)
+            .startsWith(HTTP_BATCHED_PROTOBUF_PROTOCOL_BINDING)) {
+            return deserializeBatch(format, body);
+        }
+        return Lists.newArrayList(format.deserialize(body));
+    }
+
+    /**
+     * Reads the events of the CloudEventBatch message one by one, without building the batch message
+     */
+    private List<CloudEvent> deserializeBatch(EventFormat format, byte[] body) {
+        List<CloudEvent> cloudEventList = Lists.newArrayList();
+        CodedInputStream input = CodedInputStream.newInstance(body);
+        try {
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                if (WireFormat.getTagFieldNumber(tag) == BATCH_EVENTS_FIELD_NUMBER
+                    && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                    cloudEventList.add(format.deserialize(input.readByteArray()));
+                } else if (!input.skipField(tag)) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new EventBridgeException(EventInvalid, e);
+        }
+        return cloudEventList;
+    }
+}
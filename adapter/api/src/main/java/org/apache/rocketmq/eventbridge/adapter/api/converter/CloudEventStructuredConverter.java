@@ -22,8 +22,10 @@ import com.google.common.collect.Lists;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.provider.EventFormatProvider;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.springframework.stereotype.Service;
 
 import static org.apache.http.protocol.HTTP.CONTENT_TYPE;
@@ -33,6 +35,11 @@ public class CloudEventStructuredConverter implements EventConverter {
 
     private static final String HTTP_STRUCTURED_PROTOCOL_BINDING = "application/cloudevents+json";
 
+    @Override
+    public Set<String> getContentTypes() {
+        return Collections.singleton(HTTP_STRUCTURED_PROTOCOL_BINDING);
+    }
+
     @Override
     public boolean hit(Map<String, String> headers) {
         String contentType = headers.get(CONTENT_TYPE);
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.adapter.api.converter;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.google.common.base.Strings;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import org.apache.rocketmq.eventbridge.domain.common.exception.EventBridgeErrorCode;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+import org.apache.rocketmq.eventbridge.exception.code.EventErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reads the body of the put events request from the data buffers of the server.
+ * <p>
+ * Every buffer is copied into the body array and released as soon as it arrives, so the pooled buffers aren't held
+ * until the whole body is received. The array is sized by the Content-Length of the request when present, and the
+ * request is rejected once the body exceeds the maximum size, without reading the rest of it.
+ * <p>
+ * A body compressed by the gzip or zstd Content-Encoding is decoded after it is read, up to the maximum decoded size.
+ */
+@Component
+public class EventBodyReader {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 4 * 1024;
+
+    private static final String IDENTITY_ENCODING = "identity";
+    private static final String GZIP_ENCODING = "gzip";
+    private static final String ZSTD_ENCODING = "zstd";
+
+    @Value("${eventbridge.putEvents.maxBodySize:262144}")
+    private int maxBodySize;
+
+    @Value("${eventbridge.putEvents.maxDecodedBodySize:1048576}")
+    private int maxDecodedBodySize;
+
+    public EventBodyReader() {
+    }
+
+    public EventBodyReader(int maxBodySize, int maxDecodedBodySize) {
+        this.maxBodySize = maxBodySize;
+        this.maxDecodedBodySize = maxDecodedBodySize;
+    }
+
+    /**
+     * Reads the body into a byte array, decoding it by the Content-Encoding of the request
+     *
+     * @param body the data buffers of the body
+     * @param headers the headers of the request
+     * @return the decoded body
+     */
+    public Mono<byte[]> read(Flux<DataBuffer> body, HttpHeaders headers) {
+        String contentEncoding = headers.getFirst(HttpHeaders.CONTENT_ENCODING);
+        return read(body, headers.getContentLength()).map(bytes -> decode(bytes, contentEncoding));
+    }
+
+    /**
+     * Reads the body into a byte array
+     *
+     * @param body the data buffers of the body
+     * @param contentLength the Content-Length of the request, or -1 if unknown
+     * @return the body, or an error of {@link EventBridgeErrorCode#PutEventsRequestBodyTooLarge}
+     */
+    public Mono<byte[]> read(Flux<DataBuffer> body, long contentLength) {
+        if (contentLength > maxBodySize) {
+            return Mono.error(new EventBridgeException(EventBridgeErrorCode.PutEventsRequestBodyTooLarge,
+                String.valueOf(maxBodySize)));
+        }
+        return body.collect(() -> new BodyBuffer(contentLength), BodyBuffer::append)
+            .map(BodyBuffer::toByteArray);
+    }
+
+    /**
+     * Decodes the body by the content encoding
+     *
+     * @param body the body
+     * @param contentEncoding the Content-Encoding of the request, or null if not encoded
+     * @return the decoded body
+     */
+    public byte[] decode(byte[] body, String contentEncoding) {
+        if (Strings.isNullOrEmpty(contentEncoding)) {
+            return body;
+        }
+        String encoding = contentEncoding.trim()
+            .toLowerCase(Locale.ROOT);
+        if (IDENTITY_ENCODING.equals(encoding)) {
+            return body;
+        }
+        if (!GZIP_ENCODING.equals(encoding) && !ZSTD_ENCODING.equals(encoding)) {
+            throw new EventBridgeException(EventErrorCode.EventContentEncodingInvalid, contentEncoding,
+                GZIP_ENCODING + "," + ZSTD_ENCODING);
+        }
+        try (InputStream input = GZIP_ENCODING.equals(encoding) ? new GZIPInputStream(new ByteArrayInputStream(body))
+            : new ZstdInputStream(new ByteArrayInputStream(body))) {
+            byte[] bytes = new byte[Math.min(maxDecodedBodySize, Math.max(DEFAULT_INITIAL_CAPACITY, body.length * 4))];
+            int size = 0;
+            int read;
+            while ((read = input.read(bytes, size, bytes.length - size)) >= 0) {
+                size += read;
+                if (size == bytes.length) {
+                    if (size == maxDecodedBodySize) {
+                        if (input.read() < 0) {
+                            break;
+                        }
+                        throw new EventBridgeException(EventBridgeErrorCode.PutEventsRequestBodyTooLarge,
+                            String.valueOf(maxDecodedBodySize));
+                    }
+                    bytes = Arrays.copyOf(bytes, Math.min(maxDecodedBodySize, bytes.length * 2));
+                }
+            }
+            return size == bytes.length ? bytes : Arrays.copyOf(bytes, size);
+        } catch (IOException e) {
+            throw new EventBridgeException(EventErrorCode.EventContentEncodingInvalid, e, contentEncoding,
+                GZIP_ENCODING + "," + ZSTD_ENCODING);
+        }
+    }
+
+    private class BodyBuffer {
+        private byte[] bytes;
+        private int size;
+
+        BodyBuffer(long contentLength) {
+            this.bytes = new byte[contentLength >= 0 ? (int) contentLength : DEFAULT_INITIAL_CAPACITY];
+        }
+
+        void append(DataBuffer dataBuffer) {
+            try {
+                int readable = dataBuffer.readableByteCount();
+                if (readable > maxBodySize - size) {
+                    throw new EventBridgeException(EventBridgeErrorCode.PutEventsRequestBodyTooLarge,
+                        String.valueOf(maxBodySize));
+                }
+                if (size + readable > bytes.length) {
+                    bytes = Arrays.copyOf(bytes, Math.min(maxBodySize, Math.max(bytes.length * 2, size + readable)));
+                }
+                dataBuffer.read(bytes, size, readable);
+                size += readable;
+            } finally {
+                DataBufferUtils.release(dataBuffer);
+            }
+        }
+
+        byte[] toByteArray() {
+            return size == bytes.length ? bytes : Arrays.copyOf(bytes, size);
+        }
+    }
+}
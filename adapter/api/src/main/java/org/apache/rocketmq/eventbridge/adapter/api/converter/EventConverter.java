@@ -21,8 +21,16 @@ import io.cloudevents.CloudEvent;
 import io.netty.handler.codec.http.HttpHeaders;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public interface EventConverter {
+    /**
+     * the media types of the Content-Type handled by the converter, in lower case and without parameters
+     *
+     * @return
+     */
+    Set<String> getContentTypes();
+
     /**
      * whether hit the current protocol
      *
@@ -16,17 +16,24 @@
  */
 package org.apache.rocketmq.eventbridge.adapter.api.converter;
 
+import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import com.google.gson.Gson;
 import io.cloudevents.CloudEvent;
 import io.netty.handler.codec.http.HttpHeaders;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import javax.annotation.PostConstruct;
 import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import static org.apache.http.protocol.HTTP.CONTENT_TYPE;
 import static org.apache.rocketmq.eventbridge.exception.code.EventErrorCode.EventHTTPProtocolBindingInvalid;
 
 @Service
@@ -38,14 +45,45 @@ public class EventConverterAdapter {
     private CloudEventBinaryConverter cloudEventBinaryConverter;
     @Autowired
     private CloudEventStructuredConverter cloudEventStructuredConverter;
+    @Autowired
+    private CloudEventProtobufConverter cloudEventProtobufConverter;
+
+    /**
+     * The distinct Content-Type headers of the requests are few, so their parsed media types are cached
+     */
+    private static final int MEDIA_TYPE_CACHE_SIZE = 256;
 
-    private List<EventConverter> eventConverterList = Lists.newArrayListWithCapacity(3);
+    private List<EventConverter> eventConverterList = Lists.newArrayListWithCapacity(4);
+
+    /**
+     * The converters by the media type they handle, in the order they are added
+     */
+    private final Map<String, List<EventConverter>> eventConverterIndex = new HashMap<>();
+
+    private final Cache<String, String> mediaTypeCache = CacheBuilder.newBuilder()
+        .maximumSize(MEDIA_TYPE_CACHE_SIZE)
+        .build();
 
     @PostConstruct
     public void init() {
-        eventConverterList.add(cloudEventBatchedConverter);
-        eventConverterList.add(cloudEventBinaryConverter);
-        eventConverterList.add(cloudEventStructuredConverter);
+        addEventConverter(cloudEventBatchedConverter);
+        addEventConverter(cloudEventBinaryConverter);
+        addEventConverter(cloudEventStructuredConverter);
+        addEventConverter(cloudEventProtobufConverter);
+    }
+
+    /**
+     * Adds the converter and indexes it by the media types it handles, all converters are added before the first
+     * request
+     *
+     * @param eventConverter
+     */
+    public void addEventConverter(EventConverter eventConverter) {
+        eventConverterList.add(eventConverter);
+        for (String contentType : eventConverter.getContentTypes()) {
+            eventConverterIndex.computeIfAbsent(contentType, key -> Lists.newArrayListWithCapacity(1))
+                .add(eventConverter);
+        }
     }
 
     /**
@@ -62,23 +100,44 @@ public class EventConverterAdapter {
     }
 
     /**
-     * Find the {@link EventConverter} to handler request, the default strategy is "First fit"
+     * Find the {@link EventConverter} to handler request by the media type of the Content-Type, the default strategy
+     * among the converters of the same media type is "First fit"
      *
      * @param headers
      * @return
      */
     private EventConverter getEventConverter(Map<String, String> headers) {
-        EventConverter eventConverter = eventConverterList.stream()
-            .filter(adapter -> adapter.hit(headers))
-            .findFirst()
-            .get();
-        if (eventConverter == null) {
-            throw new EventBridgeException(EventHTTPProtocolBindingInvalid, new Gson().toJson(headers));
+        String mediaType = parseMediaType(headers.get(CONTENT_TYPE));
+        List<EventConverter> eventConverters = eventConverterIndex.getOrDefault(mediaType, Collections.emptyList());
+        for (EventConverter eventConverter : eventConverters) {
+            if (eventConverter.hit(headers)) {
+                return eventConverter;
+            }
+        }
+        throw new EventBridgeException(EventHTTPProtocolBindingInvalid, new Gson().toJson(headers));
+    }
+
+    /**
+     * Parses the media type of the Content-Type, in lower case and without parameters
+     *
+     * @param contentType
+     * @return the media type, or an empty string if the Content-Type is absent
+     */
+    private String parseMediaType(String contentType) {
+        if (Strings.isNullOrEmpty(contentType)) {
+            return "";
+        }
+        String mediaType = mediaTypeCache.getIfPresent(contentType);
+        if (mediaType == null) {
+            int parametersIndex = contentType.indexOf(';');
+            mediaType = (parametersIndex < 0 ? contentType : contentType.substring(0, parametersIndex)).trim()
+                .toLowerCase(Locale.ROOT);
+            mediaTypeCache.put(contentType, mediaType);
         }
-        return eventConverter;
+        return mediaType;
     }
 
     public List<EventConverter> getEventConverterList() {
-        return eventConverterList;
+        return Collections.unmodifiableList(eventConverterList);
     }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.rocketmq.eventbridge.adapter.api.converter;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.net.MediaType;
 import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
@@ -36,14 +38,12 @@ import java.util.Set;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.net.util.SubnetUtils;
 import org.apache.rocketmq.eventbridge.adapter.api.dto.data.HttpEventData;
 import org.apache.rocketmq.eventbridge.config.AppConfig;
 import org.apache.rocketmq.eventbridge.domain.model.source.EventSource;
 import org.apache.rocketmq.eventbridge.domain.model.source.HTTPEventSourceService;
 import org.apache.rocketmq.eventbridge.domain.rpc.HttpEventAPI;
 import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
-import org.apache.rocketmq.eventbridge.tools.NetUtil;
 import org.apache.rocketmq.eventbridge.tools.transform.Data;
 import org.apache.rocketmq.eventbridge.tools.transform.StringData;
 import org.apache.rocketmq.eventbridge.tools.transform.Transform;
@@ -53,13 +53,8 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
 
 import static org.apache.rocketmq.eventbridge.domain.common.exception.EventBridgeErrorCode.JSON_ATTRIBUTE_INVALID;
-import static org.apache.rocketmq.eventbridge.domain.common.exception.EventBridgeErrorCode.PutEventsRequestSecurityCheckFailed;
-import static org.apache.rocketmq.eventbridge.domain.model.source.HTTPEventSourceService.SECURITY_CONFIG_IP;
-import static org.apache.rocketmq.eventbridge.domain.model.source.HTTPEventSourceService.SECURITY_CONFIG_NONE;
-import static org.apache.rocketmq.eventbridge.domain.model.source.HTTPEventSourceService.SECURITY_CONFIG_REFERER;
 
 @Service
 @Slf4j
@@ -74,10 +69,15 @@ public class HttpEventConverter {
     private static final String TYPE = "eventbridge:Events:HTTPEvent";
     private static final String DATA_CONTENT_TYPE = "application/json";
 
-    private static final String SECURITY_CONFIG = "SecurityConfig";
-    private static final String IP_CONFIG = "Ip";
-    private static final String METHOD_CONFIG = "Method";
-    private static final String REFERER_CONFIG = "Referer";
+    private static final int MAX_SECURITY_POLICIES = 10000;
+
+    private static final Gson GSON = new Gson();
+
+    private static final Type BODY_TYPE = new TypeToken<Map<String, ?>>() {
+    }.getType();
+
+    private static final Type SCHEMA_TYPE = new TypeToken<Map<String, Object>>() {
+    }.getType();
 
     private static final Set<String> DISCARD_FIELDS = new HashSet<>();
 
@@ -87,19 +87,26 @@ public class HttpEventConverter {
         DISCARD_FIELDS.add("proxy-authorization");
     }
 
+    /**
+     * The security policy of each account and token
+     */
+    private final Cache<String, HttpSecurityPolicy> securityPolicies = CacheBuilder.newBuilder()
+        .maximumSize(MAX_SECURITY_POLICIES)
+        .build();
+
     public List<CloudEvent> toEventBridgeEvent(ServerHttpRequest request, byte[] body,
         Map<String, String> headers, String accountId, String token) {
-        this.checkConfig(request, headers, accountId, token);
+        EventSource eventSource = httpEventSourceService.getEventSourceByToken(accountId, token);
+        this.checkConfig(request, headers, accountId, token, eventSource);
 
-        CloudEvent cloudEvent = parseRequest(request, body, headers, accountId, token, null, null);
+        CloudEvent cloudEvent = parseRequest(request, body, headers, accountId, token, eventSource, null, null);
 
         return Collections.singletonList(cloudEvent);
     }
 
     private CloudEvent parseRequest(ServerHttpRequest request, byte[] body,
-        Map<String, String> headers, String accountId, String token, String extractJson,
+        Map<String, String> headers, String accountId, String token, EventSource eventSource, String extractJson,
         String template) {
-        EventSource eventSource = httpEventSourceService.getEventSourceByToken(accountId, token);
         HttpEventData httpEventData = getHttpEventData(request, body, headers, accountId, token);
         Map<String, Object> schema = parseSchema(httpEventData, extractJson, template);
         CloudEventBuilder builder = new CloudEventBuilder();
@@ -107,7 +114,7 @@ public class HttpEventConverter {
         CloudEventBuilder builderWithAttributes = addAttributes(regionId, accountId, eventSource.getName(), eventSource.getEventBusName(), schema, builder);
         CloudEventBuilder builderWithExtensions = addExtensions(request, regionId, accountId, headers, eventSource, builderWithAttributes);
         HttpEventData data = (HttpEventData) schema.get("data");
-        CloudEventBuilder builderWithData = builderWithExtensions.withData(new Gson().toJson(data).getBytes(StandardCharsets.UTF_8));
+        CloudEventBuilder builderWithData = builderWithExtensions.withData(GSON.toJson(data).getBytes(StandardCharsets.UTF_8));
         return builderWithData.build();
     }
 
@@ -151,53 +158,29 @@ public class HttpEventConverter {
         return httpEventAPI.addExtensions(request, regionId, accountId, headers, eventSource, cloudEventBuilder);
     }
 
-    private void checkConfig(ServerHttpRequest request, Map<String, String> headers, String accountId, String token) {
+    private void checkConfig(ServerHttpRequest request, Map<String, String> headers, String accountId, String token,
+        EventSource eventSource) {
         HttpMethod requestMethod = request.getMethod();
-        String requestIp = request.getRemoteAddress().getAddress().getHostAddress();
-        if (headers.containsKey(HEADER_X_REAL_IP)) {
-            requestIp = headers.get(HEADER_X_REAL_IP);
-        }
-        String requestReferer = null;
-        if (headers.containsKey(HttpHeaders.REFERER)) {
-            requestReferer = headers.get(HttpHeaders.REFERER);
-        }
-
-        EventSource eventSource = httpEventSourceService.getEventSourceByToken(accountId, token);
-        String securityConfig = (String) eventSource.getConfig().get(SECURITY_CONFIG);
-        List<String> methods = (List<String>) eventSource.getConfig().get(METHOD_CONFIG);
-        List<String> ips = (List<String>) eventSource.getConfig().get(IP_CONFIG);
-        List<String> referers = (List<String>) eventSource.getConfig().get(REFERER_CONFIG);
-
-        // request method check
-        if (!CollectionUtils.isEmpty(methods) && !new HashSet<>(methods).contains(requestMethod.name())) {
-            throw new EventBridgeException(PutEventsRequestSecurityCheckFailed, "request methods", methods, requestMethod);
-        }
-
-        if (SECURITY_CONFIG_NONE.equals(eventSource.getConfig().get(SECURITY_CONFIG))) {
-            return;
-        }
-
-        // ip check
-        if (SECURITY_CONFIG_IP.equals(securityConfig) && !CollectionUtils.isEmpty(ips)) {
-            boolean matched = false;
-            for (String ip : ips) {
-                if (StringUtils.equals(ip, requestIp) ||
-                    (NetUtil.isNetSegment(ip) && new SubnetUtils(ip).getInfo().isInRange(requestIp))) {
-                    matched = true;
-                    break;
-                }
-            }
-            if (!matched) {
-                throw new EventBridgeException(PutEventsRequestSecurityCheckFailed, "sourceIP", ips, requestIp);
-            }
+        String requestIp = headers.get(HEADER_X_REAL_IP);
+        if (requestIp == null) {
+            requestIp = request.getRemoteAddress().getAddress().getHostAddress();
         }
+        String requestReferer = headers.get(HttpHeaders.REFERER);
+        getSecurityPolicy(accountId, token, eventSource).check(requestMethod.name(), requestIp, requestReferer);
+    }
 
-        // referer check
-        if (SECURITY_CONFIG_REFERER.equals(securityConfig) && !CollectionUtils.isEmpty(referers)) {
-            if (!new HashSet<>(referers).contains(requestReferer)) {
-                throw new EventBridgeException(PutEventsRequestSecurityCheckFailed, "secure domain", referers, requestReferer);
-            }
+    /**
+     * Returns the policy compiled from the source, the policy is compiled again once the source is reloaded after
+     * being updated
+     */
+    private HttpSecurityPolicy getSecurityPolicy(String accountId, String token, EventSource eventSource) {
+        String key = accountId + "/" + token;
+        HttpSecurityPolicy securityPolicy = securityPolicies.getIfPresent(key);
+        if (securityPolicy == null || securityPolicy.getEventSource() != eventSource) {
+            securityPolicy = new HttpSecurityPolicy(eventSource);
+            securityPolicies.put(key, securityPolicy);
         }
+        return securityPolicy;
     }
 
     private HttpEventData getHttpEventData(ServerHttpRequest request, byte[] body, Map<String, String> headers,
@@ -210,7 +193,7 @@ public class HttpEventConverter {
             }
         });
 
-        Object bodyContent = new String(body);
+        Object bodyContent = new String(body, StandardCharsets.UTF_8);
         HashMap<String, String> temp = new HashMap<>();
         dataHeaders.forEach((k, v) -> {
             temp.put(k.toLowerCase(), v);
@@ -220,8 +203,7 @@ public class HttpEventConverter {
             if (StringUtils.isNotBlank(contentType)) {
                 MediaType type = MediaType.parse(contentType);
                 if (type.toString().contains("application/json")) {
-                    bodyContent = new Gson().fromJson((String) bodyContent, new TypeToken<Map<String, ?>>() {
-                    }.getType());
+                    bodyContent = GSON.fromJson((String) bodyContent, BODY_TYPE);
                 }
             }
         } catch (Exception e) {
@@ -252,12 +234,9 @@ public class HttpEventConverter {
             return result;
         }
         Transform transform = TransformBuilder.buildTemplateTransForm(extractJson, template);
-        StringData stringData = new StringData(new Gson().toJson(httpEventData));
+        StringData stringData = new StringData(GSON.toJson(httpEventData));
         Data output = transform.process(stringData);
-        TypeToken typeToken = new TypeToken<Map<String, Object>>() {
-        };
-        Type mapType = typeToken.getType();
-        Map<String, Object> objectMap = new Gson().fromJson(output.toString(), mapType);
+        Map<String, Object> objectMap = GSON.fromJson(output.toString(), SCHEMA_TYPE);
         Map<String, Object> templateData = (Map<String, Object>) objectMap.get("data");
         // If data is not defined in the template, the default logic is executed
         if (templateData == null) {
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.adapter.api.converter;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.rocketmq.eventbridge.domain.model.source.EventSource;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+import org.apache.rocketmq.eventbridge.tools.NetUtil;
+import org.springframework.util.CollectionUtils;
+
+import static org.apache.rocketmq.eventbridge.domain.common.exception.EventBridgeErrorCode.PutEventsRequestSecurityCheckFailed;
+import static org.apache.rocketmq.eventbridge.domain.model.source.HTTPEventSourceService.SECURITY_CONFIG_IP;
+import static org.apache.rocketmq.eventbridge.domain.model.source.HTTPEventSourceService.SECURITY_CONFIG_NONE;
+import static org.apache.rocketmq.eventbridge.domain.model.source.HTTPEventSourceService.SECURITY_CONFIG_REFERER;
+
+/**
+ * The security config of an HTTP event source, compiled once per source.
+ * <p>
+ * The methods and the referers are kept in hash sets, and the network segments of the ip config in a binary trie of
+ * the IPv4 prefixes, so checking a request costs a lookup per config whatever the count of the rules. A segment
+ * matches the host addresses of the network, the network and the broadcast addresses excluded, like
+ * {@link org.apache.commons.net.util.SubnetUtils}.
+ * <p>
+ * The policy is immutable, and is safe to be used by concurrent threads.
+ */
+class HttpSecurityPolicy {
+
+    private static final String SECURITY_CONFIG = "SecurityConfig";
+    private static final String IP_CONFIG = "Ip";
+    private static final String METHOD_CONFIG = "Method";
+    private static final String REFERER_CONFIG = "Referer";
+
+    /**
+     * The segments of longer masks have no host addresses
+     */
+    private static final int MAX_SEGMENT_MASK_LENGTH = 30;
+
+    private final EventSource eventSource;
+
+    private final String securityConfig;
+
+    private final List<String> methods;
+    private final Set<String> methodSet;
+
+    private final List<String> ips;
+    private final Set<String> ipSet;
+    private final PrefixNode segments;
+
+    private final List<String> referers;
+    private final Set<String> refererSet;
+
+    HttpSecurityPolicy(EventSource eventSource) {
+        Map<String, Object> config = eventSource.getConfig();
+        this.eventSource = eventSource;
+        this.securityConfig = (String) config.get(SECURITY_CONFIG);
+        this.methods = (List<String>) config.get(METHOD_CONFIG);
+        this.methodSet = toSet(methods);
+        this.ips = (List<String>) config.get(IP_CONFIG);
+        this.ipSet = toSet(ips);
+        this.segments = new PrefixNode();
+        if (ips != null) {
+            for (String ip : ips) {
+                if (NetUtil.isNetSegment(ip)) {
+                    addSegment(ip.trim());
+                }
+            }
+        }
+        this.referers = (List<String>) config.get(REFERER_CONFIG);
+        this.refererSet = toSet(referers);
+    }
+
+    /**
+     * Returns the source the policy is compiled from
+     *
+     * @return the event source
+     */
+    EventSource getEventSource() {
+        return eventSource;
+    }
+
+    /**
+     * Checks the request against the policy
+     *
+     * @param requestMethod the method of the request
+     * @param requestIp the ip of the client
+     * @param requestReferer the referer of the request, or null if absent
+     * @throws EventBridgeException of PutEventsRequestSecurityCheckFailed if the request isn't allowed
+     */
+    void check(String requestMethod, String requestIp, String requestReferer) {
+        // request method check
+        if (!methodSet.isEmpty() && !methodSet.contains(requestMethod)) {
+            throw new EventBridgeException(PutEventsRequestSecurityCheckFailed, "request methods", methods, requestMethod);
+        }
+
+        if (SECURITY_CONFIG_NONE.equals(securityConfig)) {
+            return;
+        }
+
+        // ip check
+        if (SECURITY_CONFIG_IP.equals(securityConfig) && !ipSet.isEmpty()) {
+            if (!ipSet.contains(requestIp) && !inSegments(requestIp)) {
+                throw new EventBridgeException(PutEventsRequestSecurityCheckFailed, "sourceIP", ips, requestIp);
+            }
+        }
+
+        // referer check
+        if (SECURITY_CONFIG_REFERER.equals(securityConfig) && !refererSet.isEmpty()) {
+            if (!refererSet.contains(requestReferer)) {
+                throw new EventBridgeException(PutEventsRequestSecurityCheckFailed, "secure domain", referers, requestReferer);
+            }
+        }
+    }
+
+    private void addSegment(String segment) {
+        String[] parts = segment.split("/");
+        long network = parseIpv4(parts[0]);
+        int maskLength = Integer.parseInt(parts[1]);
+        if (network < 0 || maskLength > MAX_SEGMENT_MASK_LENGTH) {
+            return;
+        }
+        PrefixNode node = segments;
+        for (int i = 0; i < maskLength; i++) {
+            int bit = (int) (network >>> (31 - i)) & 1;
+            if (node.children[bit] == null) {
+                node.children[bit] = new PrefixNode();
+            }
+            node = node.children[bit];
+        }
+        node.segment = true;
+    }
+
+    private boolean inSegments(String requestIp) {
+        long address = parseIpv4(requestIp);
+        if (address <= 0) {
+            return false;
+        }
+        PrefixNode node = segments;
+        for (int i = 0; node != null; i++) {
+            if (node.segment) {
+                long hostMask = (1L << (32 - i)) - 1;
+                long host = address & hostMask;
+                if (host != 0 && host != hostMask) {
+                    return true;
+                }
+            }
+            if (i == 32) {
+                break;
+            }
+            node = node.children[(int) (address >>> (31 - i)) & 1];
+        }
+        return false;
+    }
+
+    /**
+     * Parses the dotted decimal IPv4 address without a name lookup
+     *
+     * @return the unsigned address, or -1 if the ip isn't a dotted decimal IPv4 address
+     */
+    static long parseIpv4(String ip) {
+        if (StringUtils.isBlank(ip)) {
+            return -1;
+        }
+        long address = 0;
+        int octets = 0;
+        int value = -1;
+        for (int i = 0, length = ip.length(); i <= length; i++) {
+            char c = i < length ? ip.charAt(i) : '.';
+            if (c >= '0' && c <= '9') {
+                value = value < 0 ? c - '0' : value * 10 + c - '0';
+                if (value > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && value >= 0 && octets < 4) {
+                address = (address << 8) | value;
+                octets++;
+                value = -1;
+            } else {
+                return -1;
+            }
+        }
+        return octets == 4 ? address : -1;
+    }
+
+    private static Set<String> toSet(List<String> values) {
+        return CollectionUtils.isEmpty(values) ? Collections.emptySet() : new HashSet<>(values);
+    }
+
+    private static class PrefixNode {
+        private final PrefixNode[] children = new PrefixNode[2];
+
+        /**
+         * Whether a network segment ends at the node
+         */
+        private boolean segment;
+    }
+}
@@ -17,17 +17,17 @@
 
 package org.apache.rocketmq.eventbridge.adapter.api.converter.format;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
-import com.fasterxml.jackson.databind.node.JsonNodeType;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.common.collect.Lists;
+import com.fasterxml.jackson.databind.node.NullNode;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
@@ -39,43 +39,180 @@ import io.cloudevents.rw.CloudEventReader;
 import io.cloudevents.rw.CloudEventWriter;
 import io.cloudevents.rw.CloudEventWriterFactory;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
-
+/**
+ * Deserializes a batch of CloudEvents in one streaming pass over the json array, so no tree of the batch is built.
+ * <p>
+ * The json data of an event is kept as the raw bytes of the "data" value when the batch is read from a byte array by
+ * {@link #readBatch(byte[])}, otherwise the value is copied token by token into a byte buffer.
+ */
 public class BatchedCloudEventDeserializer extends StdDeserializer<ArrayList<CloudEvent>> {
 
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final JavaType BATCH_TYPE = MAPPER.getTypeFactory()
+        .constructCollectionType(List.class, CloudEvent.class);
+
     protected BatchedCloudEventDeserializer() {
-        super(new ObjectMapper().getTypeFactory()
-            .constructCollectionType(List.class, CloudEvent.class));
+        super(BATCH_TYPE);
+    }
+
+    /**
+     * Reads the batch from the byte array, the json data of the events are sliced from the array as they are
+     *
+     * @param bytes the json array of the CloudEvents
+     * @return the CloudEvents
+     * @throws IOException if the batch is malformed
+     */
+    public static ArrayList<CloudEvent> readBatch(byte[] bytes) throws IOException {
+        try (JsonParser p = MAPPER.getFactory()
+            .createParser(bytes)) {
+            p.nextToken();
+            return readBatch(p, bytes);
+        }
+    }
+
+    @Override
+    public ArrayList<CloudEvent> deserialize(JsonParser p, DeserializationContext ctxt)
+        throws IOException, JsonProcessingException {
+        return readBatch(p, null);
+    }
+
+    private static ArrayList<CloudEvent> readBatch(JsonParser p, byte[] source) throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            throw MismatchedInputException.from(p, CloudEvent.class, "Expected a json array of CloudEvents");
+        }
+        ArrayList<CloudEvent> cloudEventList = new ArrayList<>();
+        try {
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw MismatchedInputException.from(p, CloudEvent.class,
+                        "Expected a json object of CloudEvent, but got " + token);
+                }
+                CloudEvent cloudEvent = JsonMessage.parse(p, source)
+                    .read(CloudEventBuilder::fromSpecVersion);
+                cloudEventList.add(cloudEvent);
+            }
+        } catch (RuntimeException e) {
+            // Yeah this is bad but it's needed to support checked exceptions...
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw MismatchedInputException.wrapWithPath(e, null);
+        }
+        return cloudEventList;
     }
 
     public static class JsonMessage implements CloudEventReader {
 
+        private static final String DATA = "data";
+        private static final String DATA_BASE64 = "data_base64";
+
         private final JsonParser p;
-        private final ObjectNode node;
 
-        public JsonMessage(JsonParser p, ObjectNode node) {
+        /**
+         * The attribute values in the order of the event, a string, boolean or number, or the tree of other json
+         * values
+         */
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+        private JsonToken dataToken;
+        private byte[] jsonData;
+        private String textData;
+        private byte[] base64Data;
+
+        private JsonMessage(JsonParser p) {
             this.p = p;
-            this.node = node;
+        }
+
+        /**
+         * Reads the members of the event object, the parser is on the start of the object
+         *
+         * @param p the parser
+         * @param source the bytes read by the parser, or null if not available
+         * @return the event message, the parser is on the end of the object
+         */
+        static JsonMessage parse(JsonParser p, byte[] source) throws IOException {
+            JsonMessage message = new JsonMessage(p);
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String name = p.getCurrentName();
+                JsonToken token = p.nextToken();
+                if (DATA.equals(name)) {
+                    message.readData(token, source);
+                } else if (DATA_BASE64.equals(name)) {
+                    if (token != JsonToken.VALUE_STRING) {
+                        throw wrongType(p, token, name, null);
+                    }
+                    message.base64Data = p.getBinaryValue();
+                } else {
+                    message.attributes.put(name, readAttributeValue(p, token));
+                }
+            }
+            return message;
+        }
+
+        private void readData(JsonToken token, byte[] source) throws IOException {
+            dataToken = token;
+            if (token == JsonToken.VALUE_STRING) {
+                textData = p.getText();
+            }
+            long start = p.getTokenLocation()
+                .getByteOffset();
+            if (source != null && start >= 0) {
+                p.skipChildren();
+                long end = p.getCurrentLocation()
+                    .getByteOffset();
+                jsonData = Arrays.copyOfRange(source, (int) start, (int) end);
+                return;
+            }
+            ByteArrayBuilder buffer = new ByteArrayBuilder();
+            try (JsonGenerator generator = MAPPER.getFactory()
+                .createGenerator(buffer)) {
+                generator.copyCurrentStructure(p);
+            }
+            jsonData = buffer.toByteArray();
+        }
+
+        private static Object readAttributeValue(JsonParser p, JsonToken token) throws IOException {
+            switch (token) {
+                case VALUE_STRING:
+                    return p.getText();
+                case VALUE_TRUE:
+                case VALUE_FALSE:
+                    return p.getBooleanValue();
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    return p.getNumberValue();
+                case VALUE_NULL:
+                    return NullNode.getInstance();
+                default:
+                    return p.readValueAsTree();
+            }
         }
 
         @Override
         public <T extends CloudEventWriter<V>, V> V read(CloudEventWriterFactory<T, V> writerFactory)
             throws CloudEventRWException, IllegalStateException {
             try {
-                SpecVersion specVersion = SpecVersion.parse(getStringNode(this.node, this.p, "specversion"));
+                SpecVersion specVersion = SpecVersion.parse(getString("specversion"));
                 CloudEventWriter<V> visitor = writerFactory.create(specVersion);
 
                 // Read mandatory attributes
                 for (String attr : specVersion.getMandatoryAttributes()) {
                     if (!"specversion".equals(attr)) {
-                        visitor.withContextAttribute(attr, getStringNode(this.node, this.p, attr));
+                        visitor.withContextAttribute(attr, getString(attr));
                     }
                 }
 
                 // Parse datacontenttype if any
-                String contentType = getOptionalStringNode(this.node, this.p, "datacontenttype");
+                String contentType = getOptionalString("datacontenttype");
                 if (contentType != null) {
                     visitor.withContextAttribute("datacontenttype", contentType);
                 }
@@ -83,7 +220,7 @@ public class BatchedCloudEventDeserializer extends StdDeserializer<ArrayList<Clo
                 // Read optional attributes
                 for (String attr : specVersion.getOptionalAttributes()) {
                     if (!"datacontentencoding".equals(attr)) { // Skip datacontentencoding, we need it later
-                        String val = getOptionalStringNode(this.node, this.p, attr);
+                        String val = getOptionalString(attr);
                         if (val != null) {
                             visitor.withContextAttribute(attr, val);
                         }
@@ -92,50 +229,36 @@ public class BatchedCloudEventDeserializer extends StdDeserializer<ArrayList<Clo
 
                 byte[] data = null;
                 // Now let's handle the data
-                if (node.has("data_base64") && node.has("data")) {
+                if (base64Data != null && dataToken != null) {
                     throw MismatchedInputException.from(p, CloudEvent.class,
                         "CloudEvent cannot have both 'data' and 'data_base64' fields");
                 }
-                if (node.has("data_base64")) {
-                    data = node.remove("data_base64")
-                        .binaryValue();
-                } else if (node.has("data")) {
+                if (base64Data != null) {
+                    data = base64Data;
+                } else if (dataToken != null) {
                     if (BatchedJsonFormat.dataIsJsonContentType(contentType)) {
-                        // This solution is quite bad, but i see no alternatives now.
-                        // Hopefully in future we can improve it
-                        data = node.remove("data")
-                            .toString()
-                            .getBytes();
+                        data = jsonData;
                     } else {
-                        JsonNode dataNode = node.remove("data");
-                        assertNodeType(dataNode, JsonNodeType.STRING, "data",
-                            "Because content type is not a json, only a string is accepted as data");
-                        data = dataNode.asText()
-                            .getBytes();
+                        if (dataToken != JsonToken.VALUE_STRING) {
+                            throw wrongType(p, dataToken, DATA,
+                                "Because content type is not a json, only a string is accepted as data");
+                        }
+                        data = textData.getBytes(StandardCharsets.UTF_8);
                     }
                 }
 
                 // Now let's process the extensions
-                node.fields()
-                    .forEachRemaining(entry -> {
-                        String extensionName = entry.getKey();
-                        JsonNode extensionValue = entry.getValue();
-
-                        switch (extensionValue.getNodeType()) {
-                            case BOOLEAN:
-                                visitor.withContextAttribute(extensionName, extensionValue.booleanValue());
-                                break;
-                            case NUMBER:
-                                visitor.withContextAttribute(extensionName, extensionValue.numberValue());
-                                break;
-                            case STRING:
-                                visitor.withContextAttribute(extensionName, extensionValue.textValue());
-                                break;
-                            default:
-                                visitor.withContextAttribute(extensionName, extensionValue.toString());
-                        }
-
-                    });
+                for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                    String extensionName = entry.getKey();
+                    Object extensionValue = entry.getValue();
+                    if (extensionValue instanceof Boolean) {
+                        visitor.withContextAttribute(extensionName, (Boolean) extensionValue);
+                    } else if (extensionValue instanceof Number) {
+                        visitor.withContextAttribute(extensionName, (Number) extensionValue);
+                    } else {
+                        visitor.withContextAttribute(extensionName, extensionValue.toString());
+                    }
+                }
 
                 if (data != null) {
                     return visitor.end(new BytesCloudEventData(data));
@@ -154,9 +277,8 @@ public class BatchedCloudEventDeserializer extends StdDeserializer<ArrayList<Clo
             return null;
         }
 
-        private String getStringNode(ObjectNode objNode, JsonParser p, String attributeName)
-            throws JsonProcessingException {
-            String val = getOptionalStringNode(objNode, p, attributeName);
+        private String getString(String attributeName) throws JsonProcessingException {
+            String val = getOptionalString(attributeName);
             if (val == null) {
                 throw MismatchedInputException.from(p, CloudEvent.class,
                     "Missing mandatory " + attributeName + " attribute");
@@ -164,45 +286,24 @@ public class BatchedCloudEventDeserializer extends StdDeserializer<ArrayList<Clo
             return val;
         }
 
-        private String getOptionalStringNode(ObjectNode objNode, JsonParser p, String attributeName)
-            throws JsonProcessingException {
-            JsonNode unparsedSpecVersion = objNode.remove(attributeName);
-            if (unparsedSpecVersion == null) {
+        private String getOptionalString(String attributeName) throws JsonProcessingException {
+            Object val = attributes.remove(attributeName);
+            if (val == null) {
                 return null;
             }
-            assertNodeType(unparsedSpecVersion, JsonNodeType.STRING, attributeName, null);
-            return unparsedSpecVersion.asText();
-        }
-
-        private void assertNodeType(JsonNode node, JsonNodeType type, String attributeName, String desc)
-            throws JsonProcessingException {
-            if (node.getNodeType() != type) {
+            if (!(val instanceof String)) {
                 throw MismatchedInputException.from(p, CloudEvent.class,
-                    "Wrong type " + node.getNodeType() + " for attribute " + attributeName + ", expecting " + type + (
-                        desc != null ? ". " + desc : ""));
+                    "Wrong type " + val.getClass()
+                        .getSimpleName() + " for attribute " + attributeName + ", expecting STRING");
             }
+            return (String) val;
         }
-    }
 
-    @Override
-    public ArrayList<CloudEvent> deserialize(JsonParser p, DeserializationContext ctxt)
-        throws IOException, JsonProcessingException {
-        JavaType javaType = new ObjectMapper().getTypeFactory()
-            .constructCollectionType(List.class, ObjectNode.class);
-        List<ObjectNode> nodeList = ctxt.readValue(p, javaType);
-        ArrayList<CloudEvent> cloudEventList = Lists.newArrayList();
-        try {
-            for (ObjectNode node : nodeList) {
-                CloudEvent cloudEvent = new JsonMessage(p, node).read(CloudEventBuilder::fromSpecVersion);
-                cloudEventList.add(cloudEvent);
-            }
-        } catch (RuntimeException e) {
-            // Yeah this is bad but it's needed to support checked exceptions...
-            if (e.getCause() instanceof IOException) {
-                throw (IOException) e.getCause();
-            }
-            throw MismatchedInputException.wrapWithPath(e, null);
+        private static JsonProcessingException wrongType(JsonParser p, JsonToken token, String attributeName,
+            String desc) {
+            return MismatchedInputException.from(p, CloudEvent.class,
+                "Wrong type " + token + " for attribute " + attributeName + ", expecting " + JsonToken.VALUE_STRING + (
+                    desc != null ? ". " + desc : ""));
         }
-        return cloudEventList;
     }
 }
@@ -18,7 +18,6 @@
 package org.apache.rocketmq.eventbridge.adapter.api.converter.format;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import io.cloudevents.CloudEvent;
@@ -38,12 +37,9 @@ public class BatchedJsonFormat {
     private final ObjectMapper mapper;
     private final boolean forceDataBase64Serialization;
     private final boolean forceStringSerialization;
-    private final JavaType type;
 
     public BatchedJsonFormat(boolean forceDataBase64Serialization, boolean forceStringSerialization) {
         this.mapper = new ObjectMapper();
-        this.type = mapper.getTypeFactory()
-            .constructCollectionType(ArrayList.class, CloudEvent.class);
         this.mapper.registerModule(getCloudEventJacksonModule(forceDataBase64Serialization, forceStringSerialization));
         this.forceDataBase64Serialization = forceDataBase64Serialization;
         this.forceStringSerialization = forceStringSerialization;
@@ -77,7 +73,7 @@ public class BatchedJsonFormat {
 
     public List<CloudEvent> deserialize(byte[] bytes) {
         try {
-            return mapper.readValue(bytes, type);
+            return BatchedCloudEventDeserializer.readBatch(bytes);
         } catch (IOException e) {
             throw new EventBridgeException("serialize event failed.");
         }
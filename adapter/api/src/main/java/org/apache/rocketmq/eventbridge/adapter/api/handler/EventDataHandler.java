@@ -14,18 +14,26 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
+
 package org.apache.rocketmq.eventbridge.adapter.api.handler;
 
+import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
 import org.apache.rocketmq.eventbridge.adapter.api.dto.data.PutEventsResponse;
+import org.apache.rocketmq.eventbridge.domain.common.exception.EventBridgeErrorCode;
 import org.apache.rocketmq.eventbridge.domain.model.data.EventDataService;
 import org.apache.rocketmq.eventbridge.domain.model.data.PutEventsResponseEntry;
+import org.apache.rocketmq.eventbridge.domain.model.quota.PutEventsRateLimiter;
 import org.apache.rocketmq.eventbridge.event.EventBridgeEvent;
 import org.apache.rocketmq.eventbridge.exception.code.DefaultErrorCode;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Component
 public class EventDataHandler {
@@ -33,14 +41,51 @@ public class EventDataHandler {
     @Autowired
     EventDataService eventDataService;
 
+    @Autowired
+    PutEventsRateLimiter putEventsRateLimiter;
+
+    /**
+     * The max events of a request in flight to the producer at the same time
+     */
+    @Value("${eventbridge.putEvents.concurrency:32}")
+    int putConcurrency = 32;
+
+    /**
+     * The max time to wait for the result of putting an event, counted from the put being started. The event is
+     * answered with a {@link EventBridgeErrorCode#PutEventTimeout} entry after the timeout, whose outcome is unknown:
+     * the send to the producer isn't cancelled and the event may still be stored, so a client retrying the entry may
+     * put the event twice. The timeout is longer than the send timeout of the producer, so it only applies when the
+     * send result is lost.
+     */
+    @Value("${eventbridge.putEvents.timeoutMillis:3000}")
+    long putTimeoutMillis = 3000L;
+
+    /**
+     * Puts the events, the event bus and topic lookups may query the database, so they run on the bounded elastic
+     * scheduler instead of the event loop. The events are throttled by the rate limit of the event bus before the
+     * lookups.
+     *
+     * @param accountId
+     * @param eventList
+     * @return the response of the events
+     */
     public Mono<PutEventsResponse> putEvents(String accountId, List<EventBridgeEvent> eventList) {
-        return Flux.fromIterable(eventList)
+        Duration putTimeout = Duration.ofMillis(putTimeoutMillis);
+        return Mono.fromRunnable(() -> {
+            putEventsRateLimiter.acquire(accountId, eventList);
+            eventDataService.checkEventBusesExist(accountId, eventList);
+        })
+            .subscribeOn(Schedulers.boundedElastic())
+            .thenMany(Flux.fromIterable(eventList))
             .flatMap(event -> {
-                Mono<PutEventsResponseEntry> result = Mono.create(monoSink -> {
-                    eventDataService.putEvent(accountId, event, new ReactorPutEventCallback(monoSink));
-                });
+                Mono<PutEventsResponseEntry> result = Mono.<PutEventsResponseEntry>create(monoSink -> {
+                    eventDataService.putCheckedEvent(accountId, event, new ReactorPutEventCallback(monoSink));
+                })
+                    .timeout(putTimeout)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .onErrorResume(TimeoutException.class, e -> Mono.just(timeoutEntry(event)));
                 return result;
-            }).collectList().map(putEventsResponseEntries -> {
+            }, putConcurrency).collectList().map(putEventsResponseEntries -> {
                 PutEventsResponse putEventsResponse = new PutEventsResponse();
                 putEventsResponse.setEntryList(putEventsResponseEntries);
                 long failedEntryCount = putEventsResponseEntries.stream()
@@ -53,4 +98,13 @@ public class EventDataHandler {
             });
     }
 
+    private PutEventsResponseEntry timeoutEntry(EventBridgeEvent event) {
+        PutEventsResponseEntry entry = new PutEventsResponseEntry();
+        entry.setEventId(event.getId());
+        entry.setErrorCode(EventBridgeErrorCode.PutEventTimeout.getCode());
+        entry.setErrorMessage(MessageFormat.format(EventBridgeErrorCode.PutEventTimeout.getMsg(), event.getId(),
+            String.valueOf(putTimeoutMillis)));
+        return entry;
+    }
+
 }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.rocketmq.eventbridge.adapter.api.handler;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.rocketmq.eventbridge.adapter.api.dto.rule.TestEventPatternResponse;
+import org.apache.rocketmq.eventbridge.domain.model.rule.EventPatternTestResult;
+import org.apache.rocketmq.eventbridge.domain.model.rule.EventPatternTestService;
+import org.apache.rocketmq.eventbridge.exception.code.DefaultErrorCode;
+import org.apache.rocketmq.eventbridge.tools.pattern.PatternEvaluator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Component
+public class EventPatternTestHandler {
+
+    @Autowired
+    EventPatternTestService eventPatternTestService;
+
+    /**
+     * Tests the events in parallel, the results are emitted as soon as each event is tested, so they are not in the
+     * order of the events
+     *
+     * @param eventPattern the event pattern to test
+     * @param events the test events in CloudEvents json format
+     * @return the test result of each event
+     */
+    public Flux<EventPatternTestResult> testEventPattern(String eventPattern, List<String> events) {
+        return Flux.defer(() -> {
+            PatternEvaluator evaluator = eventPatternTestService.buildEvaluator(eventPattern, events);
+            List<String> testEvents = events == null ? Collections.emptyList() : events;
+            return Flux.range(0, testEvents.size())
+                .parallel()
+                .runOn(Schedulers.parallel())
+                .map(index -> eventPatternTestService.testEvent(evaluator, index, testEvents.get(index)))
+                .sequential();
+        });
+    }
+
+    public Mono<TestEventPatternResponse> testEventPatternWithSummary(String eventPattern, List<String> events) {
+        long startTime = System.nanoTime();
+        return this.testEventPattern(eventPattern, events)
+            .collectSortedList(Comparator.comparingInt(EventPatternTestResult::getIndex))
+            .map(results -> {
+                TestEventPatternResponse response = new TestEventPatternResponse();
+                response.setResults(results);
+                response.setMatchedCount((int) results.stream()
+                    .filter(EventPatternTestResult::isMatched)
+                    .count());
+                response.setFailedCount((int) results.stream()
+                    .filter(result -> !DefaultErrorCode.Success.getCode()
+                        .equals(result.getErrorCode()))
+                    .count());
+                response.setCostMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+                return response;
+            });
+    }
+
+}
@@ -17,24 +17,104 @@
 
 package org.apache.rocketmq.eventbridge.adapter.api.handler;
 
+import com.google.common.base.Splitter;
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
 import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
-import java.util.Objects;
-
+/**
+ * Writes the access log of the {@link org.apache.rocketmq.eventbridge.adapter.api.annotations.WebLog} methods.
+ * <p>
+ * The request args and the response are only serialized for the sampled requests of the FULL mode, and the
+ * serialization stops at the max length, so a large request isn't serialized in full just to be truncated. The other
+ * requests log the method and the cost only.
+ */
 @Aspect
 @Component
 public class WebLogAspect {
 
     private static final Logger log = LoggerFactory.getLogger("accessLog");
 
+    private static final String TRUNCATED_MARK = "...";
+
+    enum AccessLogMode {
+        /**
+         * Logs nothing
+         */
+        OFF,
+        /**
+         * Logs the method and the cost
+         */
+        SUMMARY,
+        /**
+         * Logs the request args and the response of the sampled requests as well
+         */
+        FULL
+    }
+
+    @Value("${eventbridge.accessLog.mode:FULL}")
+    AccessLogMode mode = AccessLogMode.FULL;
+
+    /**
+     * The fraction of the requests logged with the request args and the response in the FULL mode
+     */
+    @Value("${eventbridge.accessLog.sampleRate:1.0}")
+    double sampleRate = 1.0D;
+
+    /**
+     * The max length of the request args and the response
+     */
+    @Value("${eventbridge.accessLog.maxLength:2048}")
+    int maxLength = 2048;
+
+    private Gson gson = new Gson();
+
+    /**
+     * The names of the fields of the request args to log at any depth, all the fields are logged if empty
+     *
+     * @param fields the comma separated field names
+     */
+    @Value("${eventbridge.accessLog.fields:}")
+    void setFields(String fields) {
+        Set<String> allowedFields = new HashSet<>(Splitter.on(',')
+            .trimResults()
+            .omitEmptyStrings()
+            .splitToList(fields));
+        if (allowedFields.isEmpty()) {
+            gson = new Gson();
+            return;
+        }
+        gson = new GsonBuilder().setExclusionStrategies(new ExclusionStrategy() {
+                @Override
+                public boolean shouldSkipField(FieldAttributes f) {
+                    return !allowedFields.contains(f.getName());
+                }
+
+                @Override
+                public boolean shouldSkipClass(Class<?> clazz) {
+                    return false;
+                }
+            })
+            .create();
+    }
+
     @Pointcut("@annotation(org.apache.rocketmq.eventbridge.adapter.api.annotations.WebLog)")
     public void webLog() {
 
@@ -42,22 +122,102 @@ public class WebLogAspect {
 
     @Around("webLog()")
     public Object doControllerAround(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        long startTime = System.nanoTime();
         Object result = proceedingJoinPoint.proceed();
-        if (result instanceof Mono) {
-            Mono monoResult = (Mono) result;
-            return monoResult.doOnSuccess(o -> {
-                String response = "";
-                if (Objects.nonNull(o)) {
-                    response = o.toString();
-                }
-                log.info("Class Method   : {}.{} | Request Args   : {} | Response Args : {}",
-                        proceedingJoinPoint.getSignature().getDeclaringTypeName(),
-                        proceedingJoinPoint.getSignature().getName(),
-                        new Gson().toJson(proceedingJoinPoint.getArgs()),
-                        response);
-            });
+        if (mode == AccessLogMode.OFF || !log.isInfoEnabled() || !(result instanceof Mono)) {
+            return result;
+        }
+        Mono monoResult = (Mono) result;
+        return monoResult.doOnSuccess(o -> {
+            long cost = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            if (mode == AccessLogMode.FULL && sampled()) {
+                log.info("Class Method   : {}.{} | Cost : {}ms | Request Args   : {} | Response Args : {}",
+                    proceedingJoinPoint.getSignature()
+                        .getDeclaringTypeName(), proceedingJoinPoint.getSignature()
+                        .getName(), cost, formatArgs(proceedingJoinPoint.getArgs()), formatResponse(o));
+            } else {
+                log.info("Class Method   : {}.{} | Cost : {}ms", proceedingJoinPoint.getSignature()
+                    .getDeclaringTypeName(), proceedingJoinPoint.getSignature()
+                    .getName(), cost);
+            }
+        });
+    }
+
+    String formatArgs(Object[] args) {
+        LimitedAppendable appendable = new LimitedAppendable(maxLength);
+        try {
+            gson.toJson(args, appendable);
+        } catch (JsonIOException e) {
+            if (!(e.getCause() instanceof LimitExceededException)) {
+                throw e;
+            }
         }
-        return result;
+        return appendable.toString();
     }
 
+    String formatResponse(Object response) {
+        if (Objects.isNull(response)) {
+            return "";
+        }
+        String text = response.toString();
+        return text.length() > maxLength ? text.substring(0, maxLength) + TRUNCATED_MARK : text;
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0D || ThreadLocalRandom.current()
+            .nextDouble() < sampleRate;
+    }
+
+    /**
+     * Stops the serialization once the max length is written
+     */
+    private static class LimitedAppendable implements Appendable {
+        private final StringBuilder builder = new StringBuilder();
+        private final int maxLength;
+
+        LimitedAppendable(int maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) throws LimitExceededException {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws LimitExceededException {
+            int length = Math.min(end - start, maxLength - builder.length());
+            builder.append(csq, start, start + length);
+            if (length < end - start) {
+                throw truncate();
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws LimitExceededException {
+            if (builder.length() >= maxLength) {
+                throw truncate();
+            }
+            builder.append(c);
+            return this;
+        }
+
+        private LimitExceededException truncate() {
+            builder.append(TRUNCATED_MARK);
+            return new LimitExceededException();
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+    }
+
+    private static class LimitExceededException extends IOException {
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 }
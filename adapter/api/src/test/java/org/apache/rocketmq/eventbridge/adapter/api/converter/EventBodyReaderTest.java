@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.adapter.api.converter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+public class EventBodyReaderTest {
+
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    @Test
+    public void testRead() {
+        EventBodyReader eventBodyReader = new EventBodyReader(1024, 1024);
+        byte[] body = eventBodyReader.read(Flux.just(buffer("{\"a\":"), buffer("1}")), -1)
+            .block();
+        Assert.assertEquals("{\"a\":1}", new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testRead_WithContentLength() {
+        EventBodyReader eventBodyReader = new EventBodyReader(1024, 1024);
+        byte[] body = eventBodyReader.read(Flux.just(buffer("{\"a\":"), buffer("1}")), 7)
+            .block();
+        Assert.assertEquals("{\"a\":1}", new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = EventBridgeException.class)
+    public void testRead_ContentLengthTooLarge() {
+        EventBodyReader eventBodyReader = new EventBodyReader(4, 1024);
+        eventBodyReader.read(Flux.just(buffer("{\"a\":1}")), 7)
+            .block();
+    }
+
+    @Test(expected = EventBridgeException.class)
+    public void testRead_BodyTooLarge() {
+        EventBodyReader eventBodyReader = new EventBodyReader(4, 1024);
+        eventBodyReader.read(Flux.just(buffer("{\"a\":"), buffer("1}")), -1)
+            .block();
+    }
+
+    @Test
+    public void testDecode_Gzip() throws IOException {
+        EventBodyReader eventBodyReader = new EventBodyReader(1024, 1024);
+        byte[] body = eventBodyReader.decode(gzip("{\"a\":1}"), "gzip");
+        Assert.assertEquals("{\"a\":1}", new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = EventBridgeException.class)
+    public void testDecode_DecodedBodyTooLarge() throws IOException {
+        EventBodyReader eventBodyReader = new EventBodyReader(1024, 4);
+        eventBodyReader.decode(gzip("{\"a\":1}"), "gzip");
+    }
+
+    @Test(expected = EventBridgeException.class)
+    public void testDecode_UnsupportedEncoding() {
+        EventBodyReader eventBodyReader = new EventBodyReader(1024, 1024);
+        eventBodyReader.decode("{\"a\":1}".getBytes(StandardCharsets.UTF_8), "br");
+    }
+
+    private byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+            gzipOutput.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return output.toByteArray();
+    }
+
+    private DataBuffer buffer(String text) {
+        return bufferFactory.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
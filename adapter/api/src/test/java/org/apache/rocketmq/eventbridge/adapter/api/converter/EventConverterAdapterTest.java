@@ -19,13 +19,20 @@ package org.apache.rocketmq.eventbridge.adapter.api.converter;
 
 import com.google.common.collect.Maps;
 import com.google.gson.Gson;
+import com.google.protobuf.CodedOutputStream;
 import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.provider.EventFormatProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -42,12 +49,10 @@ public class EventConverterAdapterTest {
 
     @Before
     public void before() {
-        eventConverterAdapter.getEventConverterList()
-            .add(new CloudEventBatchedConverter());
-        eventConverterAdapter.getEventConverterList()
-            .add(new CloudEventBinaryConverter());
-        eventConverterAdapter.getEventConverterList()
-            .add(new CloudEventStructuredConverter());
+        eventConverterAdapter.addEventConverter(new CloudEventBatchedConverter());
+        eventConverterAdapter.addEventConverter(new CloudEventBinaryConverter());
+        eventConverterAdapter.addEventConverter(new CloudEventStructuredConverter());
+        eventConverterAdapter.addEventConverter(new CloudEventProtobufConverter());
     }
 
     @Test
@@ -117,4 +122,89 @@ public class EventConverterAdapterTest {
             .getType());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void toEventsRequest_BatchedJsonData() {
+        Map<String, String> headers = Maps.newHashMap();
+        headers.put(CONTENT_TYPE, "application/cloudevents-batch+json");
+        String body = "[{\"specversion\":\"1.0\",\"id\":\"1\",\"source\":\"demo-source\",\"type\":\"demo:type\","
+            + "\"data\":{\"a\":[1,2.5],\"b\":{\"c\":\"d\"}},\"count\":3},"
+            + "{\"specversion\":\"1.0\",\"id\":\"2\",\"source\":\"demo-source\",\"type\":\"demo:type\","
+            + "\"data\":\"text\",\"datacontenttype\":\"text/plain\"}]";
+
+        List<CloudEvent> cloudEventList = eventConverterAdapter.toEventsRequest(headers,
+            body.getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertEquals(2, cloudEventList.size());
+        Assert.assertEquals("{\"a\":[1,2.5],\"b\":{\"c\":\"d\"}}", new String(cloudEventList.get(0)
+            .getData()
+            .toBytes(), StandardCharsets.UTF_8));
+        Assert.assertEquals(3, cloudEventList.get(0)
+            .getExtension("count"));
+        Assert.assertEquals("text", new String(cloudEventList.get(1)
+            .getData()
+            .toBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void toEventsRequest_BatchedProtobuf() throws IOException {
+        Map<String, String> headers = Maps.newHashMap();
+        headers.put(CONTENT_TYPE, "application/cloudevents-batch+protobuf");
+
+        EventFormat format = EventFormatProvider.getInstance()
+            .resolveFormat("application/cloudevents+protobuf");
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(body);
+        for (int i = 0; i < 2; i++) {
+            CloudEvent cloudEvent = CloudEventBuilder.v1()
+                .withId(UUID.randomUUID()
+                    .toString())
+                .withSource(URI.create("demo-source"))
+                .withType("demo:type")
+                .withData("application/json", "{\"a\":1}".getBytes(StandardCharsets.UTF_8))
+                .build();
+            output.writeByteArray(1, format.serialize(cloudEvent));
+        }
+        output.flush();
+
+        List<CloudEvent> cloudEventList = eventConverterAdapter.toEventsRequest(headers, body.toByteArray());
+
+        Assert.assertEquals(2, cloudEventList.size());
+        Assert.assertEquals("demo:type", cloudEventList.get(1)
+            .getType());
+        Assert.assertEquals("{\"a\":1}", new String(cloudEventList.get(1)
+            .getData()
+            .toBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void toEventsRequest_ContentTypeWithParameters() {
+        Map<String, String> headers = Maps.newHashMap();
+        headers.put(CONTENT_TYPE, "application/cloudevents+json; charset=UTF-8");
+
+        Map<String, Object> cloudEvent = Maps.newHashMap();
+        cloudEvent.put("id", UUID.randomUUID()
+            .toString());
+        cloudEvent.put("source", "demo-source");
+        cloudEvent.put("type", "demo:type");
+        cloudEvent.put("specversion", "1.0");
+        List<CloudEvent> cloudEventList = eventConverterAdapter.toEventsRequest(headers, new Gson().toJson(cloudEvent)
+            .getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertEquals(1, cloudEventList.size());
+    }
+
+    @Test(expected = EventBridgeException.class)
+    public void toEventsRequest_UnsupportedContentType() {
+        Map<String, String> headers = Maps.newHashMap();
+        headers.put(CONTENT_TYPE, "text/plain");
+        eventConverterAdapter.toEventsRequest(headers, "text".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = EventBridgeException.class)
+    public void toEventsRequest_BinaryWithoutSpecVersion() {
+        Map<String, String> headers = Maps.newHashMap();
+        headers.put(CONTENT_TYPE, "application/json");
+        eventConverterAdapter.toEventsRequest(headers, "{}".getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.adapter.api.converter;
+
+import com.google.common.collect.Lists;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.rocketmq.eventbridge.domain.model.source.EventSource;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HttpSecurityPolicyTest {
+
+    @Test
+    public void testCheck_Method() {
+        HttpSecurityPolicy securityPolicy = buildPolicy("none", "Method", "POST");
+        securityPolicy.check("POST", "127.0.0.1", null);
+        assertCheckFailed(securityPolicy, "GET", "127.0.0.1", null);
+    }
+
+    @Test
+    public void testCheck_Ip() {
+        HttpSecurityPolicy securityPolicy = buildPolicy("ip", "Ip", "10.0.0.1", "192.168.1.0/24", "172.16.0.0/12");
+        securityPolicy.check("POST", "10.0.0.1", null);
+        securityPolicy.check("POST", "192.168.1.1", null);
+        securityPolicy.check("POST", "192.168.1.254", null);
+        securityPolicy.check("POST", "172.31.255.1", null);
+        assertCheckFailed(securityPolicy, "POST", "192.168.1.0", null);
+        assertCheckFailed(securityPolicy, "POST", "192.168.1.255", null);
+        assertCheckFailed(securityPolicy, "POST", "192.168.2.1", null);
+        assertCheckFailed(securityPolicy, "POST", "10.0.0.2", null);
+        assertCheckFailed(securityPolicy, "POST", "fe80::1", null);
+    }
+
+    @Test
+    public void testCheck_Referer() {
+        HttpSecurityPolicy securityPolicy = buildPolicy("referer", "Referer", "www.example.com");
+        securityPolicy.check("POST", "127.0.0.1", "www.example.com");
+        assertCheckFailed(securityPolicy, "POST", "127.0.0.1", "www.other.com");
+        assertCheckFailed(securityPolicy, "POST", "127.0.0.1", null);
+    }
+
+    @Test
+    public void testParseIpv4() {
+        Assert.assertEquals(0xC0A80101L, HttpSecurityPolicy.parseIpv4("192.168.1.1"));
+        Assert.assertEquals(0xFFFFFFFFL, HttpSecurityPolicy.parseIpv4("255.255.255.255"));
+        Assert.assertEquals(-1, HttpSecurityPolicy.parseIpv4("256.1.1.1"));
+        Assert.assertEquals(-1, HttpSecurityPolicy.parseIpv4("1.1.1"));
+        Assert.assertEquals(-1, HttpSecurityPolicy.parseIpv4("1..1.1"));
+        Assert.assertEquals(-1, HttpSecurityPolicy.parseIpv4("1.1.1.1.1"));
+        Assert.assertEquals(-1, HttpSecurityPolicy.parseIpv4("localhost"));
+    }
+
+    private HttpSecurityPolicy buildPolicy(String securityConfig, String configName, String... values) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("SecurityConfig", securityConfig);
+        config.put(configName, Lists.newArrayList(values));
+        return new HttpSecurityPolicy(EventSource.builder()
+            .config(config)
+            .build());
+    }
+
+    private void assertCheckFailed(HttpSecurityPolicy securityPolicy, String method, String ip, String referer) {
+        try {
+            securityPolicy.check(method, ip, referer);
+            Assert.fail();
+        } catch (EventBridgeException e) {
+            Assert.assertEquals("PutEventsRequestSecurityCheckFailed", e.getCode());
+        }
+    }
+}
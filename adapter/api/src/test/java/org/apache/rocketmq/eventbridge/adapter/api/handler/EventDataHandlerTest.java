@@ -17,6 +17,7 @@
 
 package org.apache.rocketmq.eventbridge.adapter.api.handler;
 
+import com.google.common.collect.Lists;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
@@ -25,9 +26,12 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.SneakyThrows;
 import org.apache.rocketmq.eventbridge.adapter.api.dto.data.PutEventsResponse;
+import org.apache.rocketmq.eventbridge.domain.common.exception.EventBridgeErrorCode;
 import org.apache.rocketmq.eventbridge.domain.model.data.EventDataService;
 import org.apache.rocketmq.eventbridge.domain.model.data.PutEventCallback;
 import org.apache.rocketmq.eventbridge.domain.model.data.PutEventsResponseEntry;
+import org.apache.rocketmq.eventbridge.domain.model.quota.PutEventsRateLimiter;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
 import org.apache.rocketmq.eventbridge.event.EventBridgeEvent;
 import org.junit.Assert;
 import org.junit.Before;
@@ -49,10 +53,17 @@ public class EventDataHandlerTest {
     @Mock
     EventDataService eventDataService;
 
+    @Mock
+    PutEventsRateLimiter putEventsRateLimiter;
+
     ExecutorService executor = Executors.newFixedThreadPool(10);
 
     @Before
     public void before() {
+        eventDataHandler.putTimeoutMillis = 5000L;
+    }
+
+    private void mockPutCheckedEvent() {
         Mockito.doAnswer((invocation) -> {
             Object[] args = invocation.getArguments();
             EventBridgeEvent event = (EventBridgeEvent) args[1];
@@ -61,11 +72,12 @@ public class EventDataHandlerTest {
             return null;
         })
             .when(eventDataService)
-            .putEvent(any(), any(), any());
+            .putCheckedEvent(any(), any(), any());
     }
 
     @Test
     public void testPutEvents() {
+        mockPutCheckedEvent();
         Long startTime = System.currentTimeMillis();
         List<EventBridgeEvent> eventList = IntStream.range(0, 10)
             .mapToObj(index -> {
@@ -84,6 +96,40 @@ public class EventDataHandlerTest {
         Assert.assertEquals(true, costTime < 4000);
     }
 
+    @Test
+    public void testPutEvents_Timeout() {
+        eventDataHandler.putTimeoutMillis = 100L;
+        mockPutCheckedEvent();
+        List<EventBridgeEvent> eventList = IntStream.range(0, 3)
+            .mapToObj(index -> {
+                EventBridgeEvent event = new EventBridgeEvent();
+                event.setId(UUID.randomUUID()
+                    .toString());
+                return event;
+            })
+            .collect(Collectors.toList());
+        PutEventsResponse putEventsResponse = eventDataHandler.putEvents("123456", eventList)
+            .block();
+        Assert.assertEquals(3, putEventsResponse.getEntryList()
+            .size());
+        Assert.assertEquals(3, putEventsResponse.getFailedEntryCount());
+        putEventsResponse.getEntryList()
+            .forEach(entry -> Assert.assertEquals(EventBridgeErrorCode.PutEventTimeout.getCode(),
+                entry.getErrorCode()));
+    }
+
+    @Test(expected = EventBridgeException.class)
+    public void testPutEvents_Throttled() {
+        Mockito.doThrow(new EventBridgeException(EventBridgeErrorCode.PutEventsRequestThrottled, "demo-bus", "1"))
+            .when(putEventsRateLimiter)
+            .acquire(any(), any());
+        EventBridgeEvent event = new EventBridgeEvent();
+        event.setId(UUID.randomUUID()
+            .toString());
+        eventDataHandler.putEvents("123456", Lists.newArrayList(event))
+            .block();
+    }
+
     class PutEventTestThread implements Runnable {
         EventBridgeEvent event;
         PutEventCallback putEventCallback;
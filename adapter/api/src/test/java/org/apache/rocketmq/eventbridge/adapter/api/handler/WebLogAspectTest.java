@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.adapter.api.handler;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WebLogAspectTest {
+
+    @Test
+    public void testFormatArgs() {
+        WebLogAspect webLogAspect = new WebLogAspect();
+        Assert.assertEquals("[{\"name\":\"demo\",\"description\":\"abcdefghij\",\"inner\":{\"secret\":\"x\"}}]",
+            webLogAspect.formatArgs(new Object[] {new Request()}));
+    }
+
+    @Test
+    public void testFormatArgs_Truncated() {
+        WebLogAspect webLogAspect = new WebLogAspect();
+        webLogAspect.maxLength = 20;
+        Assert.assertEquals("[{\"name\":\"demo\",\"des...", webLogAspect.formatArgs(new Object[] {new Request()}));
+        Assert.assertEquals("abcdefghijklmnopqrst...", webLogAspect.formatResponse("abcdefghijklmnopqrstuvwxyz"));
+        Assert.assertEquals("", webLogAspect.formatResponse(null));
+    }
+
+    @Test
+    public void testFormatArgs_AllowedFields() {
+        WebLogAspect webLogAspect = new WebLogAspect();
+        webLogAspect.setFields("name, inner");
+        Assert.assertEquals("[{\"name\":\"demo\",\"inner\":{}}]", webLogAspect.formatArgs(new Object[] {new Request()}));
+    }
+
+    private static class Request {
+        private String name = "demo";
+        private String description = "abcdefghij";
+        private Inner inner = new Inner();
+    }
+
+    private static class Inner {
+        private String secret = "x";
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.rocketmq.eventbridge.adapter.benchmark;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the events used by the micro benchmarks, the fields read by the benchmark patterns are the same whatever the
+ * size of the event, the size is reached with a padding array of records.
+ */
+public class BenchmarkEvents {
+
+    public static final String SOURCE = "acs.ecs";
+    public static final String TYPE = "ecs:Instance:StateChange";
+    public static final String SUBJECT = "acs:ecs:cn-hangzhou:123456789:instance/i-bp1199";
+
+    /**
+     * Builds the data of the event in json format
+     *
+     * @param approximateBytes the approximate size of the json string, 0 for the fields only
+     * @return the data json object
+     */
+    public static JsonObject buildData(int approximateBytes) {
+        JsonObject data = new JsonObject();
+        data.addProperty("instanceId", "i-bp1199");
+        data.addProperty("state", "running");
+        data.addProperty("region", "cn-hangzhou");
+        data.addProperty("cpu", 42.5);
+        data.addProperty("ip", "10.1.2.3");
+        JsonArray tags = new JsonArray();
+        tags.add("prod");
+        tags.add("web");
+        data.add("tags", tags);
+
+        JsonObject zone = new JsonObject();
+        zone.addProperty("id", "zone-a");
+        JsonObject instance = new JsonObject();
+        instance.add("zone", zone);
+        instance.addProperty("type", "ecs.g6.large");
+        JsonObject detail = new JsonObject();
+        detail.add("instance", instance);
+        data.add("detail", detail);
+
+        JsonArray records = new JsonArray();
+        int index = 0;
+        while (data.toString()
+            .length() < approximateBytes) {
+            // Grow by batches of records to avoid serializing the whole object per record
+            for (int i = 0; i < 16; i++, index++) {
+                JsonObject record = new JsonObject();
+                record.addProperty("seq", index);
+                record.addProperty("name", "record-" + index);
+                record.addProperty("value", index * 1.5);
+                record.addProperty("enabled", index % 2 == 0);
+                record.addProperty("description", "padding record to reach the configured event size");
+                records.add(record);
+            }
+            data.add("records", records);
+        }
+        return data;
+    }
+
+    /**
+     * Builds the whole event in CloudEvents json format
+     *
+     * @param approximateBytes the approximate size of the data
+     * @return the event json object
+     */
+    public static JsonObject buildEvent(int approximateBytes) {
+        JsonObject event = new JsonObject();
+        for (Map.Entry<String, String> entry : buildSpecAttrs().entrySet()) {
+            event.addProperty(entry.getKey(), entry.getValue());
+        }
+        event.add("data", buildData(approximateBytes));
+        return event;
+    }
+
+    public static Map<String, String> buildSpecAttrs() {
+        Map<String, String> specAttrs = new HashMap<>();
+        specAttrs.put("id", "4a6a6c5e-29c5-4d5a-9bd9-0d4d3a1f0001");
+        specAttrs.put("source", SOURCE);
+        specAttrs.put("type", TYPE);
+        specAttrs.put("subject", SUBJECT);
+        specAttrs.put("specversion", "1.0");
+        specAttrs.put("datacontenttype", "application/json");
+        specAttrs.put("time", "2023-04-01T12:00:00.000Z");
+        return specAttrs;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.rocketmq.eventbridge.adapter.benchmark.pattern;
+
+import com.google.common.collect.Sets;
+import org.apache.rocketmq.eventbridge.config.AppConfig;
+import org.apache.rocketmq.eventbridge.config.GlobalConfig;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the pattern benchmarks with the GC profiler, which reports the allocation rate (gc.alloc.rate.norm is the
+ * bytes allocated per operation) next to the throughput. The first argument, if any, is a regexp to select the
+ * benchmarks, for example {@code PatternEvaluatorBenchmark.evaluateData}.
+ * <p>
+ * The benchmarks can also be run from the shaded jar: {@code java -jar target/benchmarks.jar Pattern -prof gc}
+ */
+public class PatternBenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : PatternBenchmarkRunner.class.getPackage()
+            .getName();
+        Options options = new OptionsBuilder().include(include)
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+
+    /**
+     * The extension keys accepted by the patterns, as configured by the api
+     */
+    static void initGlobalConfig() {
+        GlobalConfig globalConfig = new GlobalConfig();
+        globalConfig.setEventExtensionKeys(Sets.newHashSet("aliyunregionid", "aliyunaccountid"));
+        AppConfig.refreshGlobalConfig(globalConfig);
+    }
+}
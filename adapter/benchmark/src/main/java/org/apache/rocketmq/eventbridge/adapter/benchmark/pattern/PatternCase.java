@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.rocketmq.eventbridge.adapter.benchmark.pattern;
+
+import java.util.StringJoiner;
+
+/**
+ * The event patterns measured by the benchmarks, each pattern matches the events built by
+ * {@link org.apache.rocketmq.eventbridge.adapter.benchmark.BenchmarkEvents}.
+ */
+public enum PatternCase {
+    /**
+     * Exact match on a spec attribute and a top level data field
+     */
+    EXACT("{\"source\":[\"acs.ecs\"],\"data\":{\"state\":[\"running\"]}}"),
+    /**
+     * Prefix match on a spec attribute and a data field
+     */
+    PREFIX("{\"type\":[{\"prefix\":\"ecs:Instance\"}],\"data\":{\"region\":[{\"prefix\":\"cn-\"}]}}"),
+    /**
+     * Numeric range on a data field
+     */
+    NUMERIC("{\"source\":[\"acs.ecs\"],\"data\":{\"cpu\":[{\"numeric\":[\">\",0,\"<=\",80]}]}}"),
+    /**
+     * CIDR match on a data field
+     */
+    CIDR("{\"source\":[\"acs.ecs\"],\"data\":{\"ip\":[{\"cidr\":\"10.0.0.0/8\"}]}}"),
+    /**
+     * Exists match on a data field
+     */
+    EXISTS("{\"source\":[\"acs.ecs\"],\"data\":{\"tags\":[{\"exists\":true}]}}"),
+    /**
+     * Exact match on a data field nested three levels deep
+     */
+    NESTED("{\"source\":[\"acs.ecs\"],\"data\":{\"detail\":{\"instance\":{\"zone\":{\"id\":[\"zone-a\"]}}}}}"),
+    /**
+     * A list of 200 values on a spec attribute and a data field, the matching value is the last one
+     */
+    LARGE_OR(largeOrPattern(200));
+
+    private final String pattern;
+
+    PatternCase(String pattern) {
+        this.pattern = pattern;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    private static String largeOrPattern(int size) {
+        StringJoiner subjects = new StringJoiner(",", "[", "]");
+        StringJoiner instanceIds = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < size; i++) {
+            subjects.add("\"acs:ecs:cn-hangzhou:123456789:instance/i-bp" + i + "\"");
+            instanceIds.add("\"i-bp" + (1000 + i) + "\"");
+        }
+        subjects.add("\"acs:ecs:cn-hangzhou:123456789:instance/i-bp1199\"");
+        instanceIds.add("\"i-bp1199\"");
+        return "{\"subject\":" + subjects + ",\"data\":{\"instanceId\":" + instanceIds + "}}";
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.rocketmq.eventbridge.adapter.benchmark.pattern;
+
+import com.google.gson.JsonObject;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.rocketmq.eventbridge.adapter.benchmark.BenchmarkEvents;
+import org.apache.rocketmq.eventbridge.tools.pattern.EventAccessor;
+import org.apache.rocketmq.eventbridge.tools.pattern.PatternEvaluator;
+import org.apache.rocketmq.eventbridge.tools.pattern.PatternEvaluatorBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the evaluation of a built {@link PatternEvaluator} against an event, through the three entry points used by
+ * the api and the runtime.
+ * <p>
+ * The data operations alternate between distinct copies of the data, so every operation parses the data, even if a
+ * document parsed by the former operation were ever reused for the same data instance. The copy is picked in the
+ * operation instead of an invocation level setup, which skews the timing of operations this short.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PatternEvaluatorBenchmark {
+
+    /**
+     * The count of distinct copies of the data, a power of two
+     */
+    private static final int DATA_COPIES = 2;
+
+    @Param({"EXACT", "PREFIX", "NUMERIC", "CIDR", "EXISTS", "NESTED", "LARGE_OR"})
+    private PatternCase patternCase;
+
+    /**
+     * The approximate size of the event data in bytes, 0 for a small event with the matched fields only
+     */
+    @Param({"0", "65536"})
+    private int dataBytes;
+
+    private PatternEvaluator evaluator;
+    private String[] data;
+    private JsonObject event;
+    private EventAccessor[] eventAccessors;
+    private int next;
+
+    @Setup
+    public void setup() {
+        PatternBenchmarkRunner.initGlobalConfig();
+        evaluator = PatternEvaluatorBuilder.build(patternCase.getPattern());
+        event = BenchmarkEvents.buildEvent(dataBytes);
+        data = new String[DATA_COPIES];
+        eventAccessors = new EventAccessor[DATA_COPIES];
+        for (int i = 0; i < DATA_COPIES; i++) {
+            data[i] = event.get("data")
+                .toString();
+            eventAccessors[i] = new MapEventAccessor(BenchmarkEvents.buildSpecAttrs(), data[i]);
+            if (!evaluator.testEventPattern(event) || !evaluator.evaluate(eventAccessors[i])) {
+                throw new IllegalStateException("The benchmark event doesn't match pattern " + patternCase);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean evaluateData() {
+        return evaluator.evaluateData(data[next++ & (DATA_COPIES - 1)]);
+    }
+
+    @Benchmark
+    public boolean testEventPattern() {
+        return evaluator.testEventPattern(event);
+    }
+
+    @Benchmark
+    public boolean evaluateEventAccessor() {
+        return evaluator.evaluate(eventAccessors[next++ & (DATA_COPIES - 1)]);
+    }
+
+    private static class MapEventAccessor implements EventAccessor {
+        private final Map<String, String> attributes;
+        private final String data;
+
+        MapEventAccessor(Map<String, String> attributes, String data) {
+            this.attributes = attributes;
+            this.data = data;
+        }
+
+        @Override
+        public String getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public String getData() {
+            return data;
+        }
+    }
+}
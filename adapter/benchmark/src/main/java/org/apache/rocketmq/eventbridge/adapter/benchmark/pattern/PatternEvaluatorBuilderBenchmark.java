@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.rocketmq.eventbridge.adapter.benchmark.pattern;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.rocketmq.eventbridge.tools.pattern.PatternEvaluator;
+import org.apache.rocketmq.eventbridge.tools.pattern.PatternEvaluatorBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building a {@link PatternEvaluator} from the json event pattern, which happens on every rule creation and
+ * every pattern test request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PatternEvaluatorBuilderBenchmark {
+
+    @Param({"EXACT", "PREFIX", "NUMERIC", "CIDR", "EXISTS", "NESTED", "LARGE_OR"})
+    private PatternCase patternCase;
+
+    private String pattern;
+
+    @Setup
+    public void setup() {
+        PatternBenchmarkRunner.initGlobalConfig();
+        pattern = patternCase.getPattern();
+    }
+
+    @Benchmark
+    public PatternEvaluator build() {
+        return PatternEvaluatorBuilder.build(pattern);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.rocketmq.eventbridge.adapter.benchmark.transform;
+
+import com.google.gson.JsonObject;
+import io.openmessaging.KeyValue;
+import io.openmessaging.connector.api.data.ConnectRecord;
+import io.openmessaging.internal.DefaultKeyValue;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.rocketmq.connect.transform.eventbridge.CloudEventTransform;
+import org.apache.rocketmq.connect.transform.eventbridge.EventBridgeTransform;
+import org.apache.rocketmq.eventbridge.adapter.benchmark.BenchmarkEvents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the connect transforms on a record, as the runtime does: the {@link CloudEventTransform} of the source
+ * events, and the {@link EventBridgeTransform} of a rule target.
+ * <p>
+ * The transforms set the data and the extensions of the record, so every operation transforms a new record, the record
+ * itself is a few small objects. The records alternate between distinct copies of the data, so every operation parses
+ * the data once, even if a document parsed by the former operation were ever reused for the same data instance. The
+ * copy is picked in the operation instead of an invocation level setup, which skews the timing of short operations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectTransformBenchmark {
+
+    /**
+     * The count of distinct copies of the data, a power of two
+     */
+    private static final int DATA_COPIES = 2;
+
+    /**
+     * The approximate size of the event data in bytes
+     */
+    @Param({"1024", "10240", "102400"})
+    private int dataBytes;
+
+    private CloudEventTransform cloudEventTransform;
+    private EventBridgeTransform eventBridgeTransform;
+    private String[] data;
+    private Map<String, String> specAttrs;
+    private int next;
+
+    @Setup
+    public void setup() {
+        KeyValue cloudEventConfig = new DefaultKeyValue();
+        cloudEventConfig.put("id", "{\"value\":\"$.data.instanceId\",\"form\":\"JSONPATH\"}");
+        cloudEventConfig.put("source", "{\"value\":\"" + BenchmarkEvents.SOURCE + "\",\"form\":\"CONSTANT\"}");
+        cloudEventConfig.put("type", "{\"value\":\"" + BenchmarkEvents.TYPE + "\",\"form\":\"CONSTANT\"}");
+        cloudEventConfig.put("subject", "{\"value\":\"$.data.detail.instance.zone.id\",\"form\":\"JSONPATH\"}");
+        cloudEventConfig.put("data", "{\"value\":\"$.data\",\"form\":\"JSONPATH\"}");
+        cloudEventTransform = new CloudEventTransform();
+        cloudEventTransform.init(cloudEventConfig);
+
+        KeyValue eventBridgeConfig = new DefaultKeyValue();
+        eventBridgeConfig.put("subject", "{\"value\":\"$.subject\",\"form\":\"JSONPATH\"}");
+        eventBridgeConfig.put("data", "{\"value\":\"{\\\"instanceId\\\":\\\"$.data.instanceId\\\","
+            + "\\\"state\\\":\\\"$.data.state\\\"}\",\"template\":\"Instance ${instanceId} is ${state}\","
+            + "\"form\":\"TEMPLATE\"}");
+        eventBridgeTransform = new EventBridgeTransform();
+        eventBridgeTransform.init(eventBridgeConfig);
+
+        JsonObject event = BenchmarkEvents.buildEvent(dataBytes);
+        data = new String[DATA_COPIES];
+        for (int i = 0; i < DATA_COPIES; i++) {
+            data[i] = event.get("data")
+                .toString();
+        }
+        specAttrs = BenchmarkEvents.buildSpecAttrs();
+        for (int i = 0; i < DATA_COPIES; i++) {
+            if (cloudEventTransform() == null || eventBridgeTransform() == null) {
+                throw new IllegalStateException("The benchmark record can't be transformed");
+            }
+        }
+    }
+
+    @Benchmark
+    public ConnectRecord cloudEventTransform() {
+        ConnectRecord record = new ConnectRecord(null, null, System.currentTimeMillis());
+        record.setData(data[next++ & (DATA_COPIES - 1)]);
+        return cloudEventTransform.doTransform(record);
+    }
+
+    @Benchmark
+    public ConnectRecord eventBridgeTransform() {
+        ConnectRecord record = new ConnectRecord(null, null, System.currentTimeMillis());
+        record.setData(data[next++ & (DATA_COPIES - 1)]);
+        for (Map.Entry<String, String> entry : specAttrs.entrySet()) {
+            record.addExtension(entry.getKey(), entry.getValue());
+        }
+        return eventBridgeTransform.doTransform(record);
+    }
+}
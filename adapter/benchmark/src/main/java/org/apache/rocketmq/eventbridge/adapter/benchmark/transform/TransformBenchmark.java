@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.rocketmq.eventbridge.adapter.benchmark.transform;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.rocketmq.eventbridge.adapter.benchmark.BenchmarkEvents;
+import org.apache.rocketmq.eventbridge.tools.transform.Data;
+import org.apache.rocketmq.eventbridge.tools.transform.StringData;
+import org.apache.rocketmq.eventbridge.tools.transform.Transform;
+import org.apache.rocketmq.eventbridge.tools.transform.TransformBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a {@link Transform} built by {@link TransformBuilder} processing the whole event in json format, as the
+ * api does when testing a transform.
+ * <p>
+ * The operations alternate between distinct copies of the event, so the transforms reading the event parse it on every
+ * operation, even if a document parsed by the former operation were ever reused for the same data instance. The copy
+ * is picked in the operation instead of an invocation level setup, which skews the timing of operations this short.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransformBenchmark {
+
+    /**
+     * The count of distinct copies of the event, a power of two
+     */
+    private static final int EVENT_COPIES = 2;
+
+    @Param({"CONSTANT", "JSONPATH", "TEMPLATE", "TEMPLATE_EMBED_OBJECT", "REGEX", "INSERT_FIELD", "UPDATE_FIELD",
+        "DELETE_FIELD"})
+    private TransformCase transformCase;
+
+    /**
+     * The approximate size of the event data in bytes
+     */
+    @Param({"1024", "10240", "102400"})
+    private int dataBytes;
+
+    private Transform transform;
+    private Data[] events;
+    private int next;
+
+    @Setup
+    public void setup() {
+        transform = TransformBuilder.buildTransform(transformCase.getTransformParam());
+        events = new Data[EVENT_COPIES];
+        for (int i = 0; i < EVENT_COPIES; i++) {
+            events[i] = new StringData(BenchmarkEvents.buildEvent(dataBytes)
+                .toString());
+            if (transform.process(events[i]) == null) {
+                throw new IllegalStateException("The benchmark event can't be transformed by " + transformCase);
+            }
+        }
+    }
+
+    @Benchmark
+    public Data process() {
+        return transform.process(events[next++ & (EVENT_COPIES - 1)]);
+    }
+}
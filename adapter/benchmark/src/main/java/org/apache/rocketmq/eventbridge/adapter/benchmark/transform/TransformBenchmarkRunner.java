@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.rocketmq.eventbridge.adapter.benchmark.transform;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the transform benchmarks with the GC profiler, which reports the allocation rate (gc.alloc.rate.norm is the
+ * bytes allocated per operation) next to the throughput. The first argument, if any, is a regexp to select the
+ * benchmarks, for example {@code TransformBenchmark.process}. The second argument, if any, is the file to write the
+ * results in json format, to be compared with the results of the former release before releasing.
+ * <p>
+ * The benchmarks can also be run from the shaded jar:
+ * {@code java -jar target/benchmarks.jar transform -prof gc -rf json -rff transform.json}
+ */
+public class TransformBenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : TransformBenchmarkRunner.class.getPackage()
+            .getName();
+        ChainedOptionsBuilder builder = new OptionsBuilder().include(include)
+            .addProfiler(GCProfiler.class);
+        if (args.length > 1) {
+            builder.resultFormat(ResultFormatType.JSON)
+                .result(args[1]);
+        }
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
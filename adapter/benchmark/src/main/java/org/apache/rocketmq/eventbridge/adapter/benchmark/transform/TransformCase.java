@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.apache.rocketmq.eventbridge.adapter.benchmark.transform;
+
+import org.apache.rocketmq.eventbridge.tools.transform.TransformEnum;
+import org.apache.rocketmq.eventbridge.tools.transform.TransformParam;
+
+/**
+ * The transform params measured by the benchmarks, each param reads the fields of the events built by
+ * {@link org.apache.rocketmq.eventbridge.adapter.benchmark.BenchmarkEvents}.
+ */
+public enum TransformCase {
+    /**
+     * A constant value, whatever the event
+     */
+    CONSTANT(new TransformParam(TransformEnum.CONSTANT, "{\"alert\":\"ecs state changed\"}")),
+    /**
+     * A field nested three levels deep in the data
+     */
+    JSONPATH(new TransformParam(TransformEnum.JSONPATH, "$.data.detail.instance.zone.id")),
+    /**
+     * A text template of three variables
+     */
+    TEMPLATE(new TransformParam(TransformEnum.TEMPLATE,
+        "{\"instanceId\":\"$.data.instanceId\",\"state\":\"$.data.state\",\"zone\":\"$.data.detail.instance.zone.id\"}",
+        "Instance ${instanceId} in ${zone} is ${state}")),
+    /**
+     * A json template embedding the detail object of the data
+     */
+    TEMPLATE_EMBED_OBJECT(new TransformParam(TransformEnum.TEMPLATE,
+        "{\"state\":\"$.data.state\",\"detail\":\"$.data.detail\"}",
+        "{\"state\":\"${state}\",\"EB_SYS_EMBED_OBJECT\":\"${detail}\"}")),
+    /**
+     * Two named groups of the event text, formatted by a text template
+     */
+    REGEX(new TransformParam(TransformEnum.REGEX,
+        "\"instanceId\":\"(?<instanceId>[^\"]+)\",\"state\":\"(?<state>[^\"]+)\"",
+        "Instance ${instanceId} is ${state}")),
+    /**
+     * Inserts a top level field and a nested field
+     */
+    INSERT_FIELD(new TransformParam(TransformEnum.INSERT_FIELD,
+        "[{\"field\":\"$.region\",\"value\":\"cn-hangzhou\"},{\"field\":\"$.data.checked\",\"value\":\"true\"}]")),
+    /**
+     * Updates a top level field and a nested field
+     */
+    UPDATE_FIELD(new TransformParam(TransformEnum.UPDATE_FIELD,
+        "[{\"field\":\"$.subject\",\"value\":\"instance/i-bp1199\"},{\"field\":\"$.data.state\",\"value\":\"stopped\"}]")),
+    /**
+     * Deletes a top level field and a nested field
+     */
+    DELETE_FIELD(new TransformParam(TransformEnum.DELETE_FIELD,
+        "[{\"field\":\"$.time\"},{\"field\":\"$.data.ip\"}]"));
+
+    private final TransformParam transformParam;
+
+    TransformCase(TransformParam transformParam) {
+        this.transformParam = transformParam;
+    }
+
+    public TransformParam getTransformParam() {
+        return transformParam;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.adapter.persistence.quota.mybatis.repository;
+
+import org.apache.rocketmq.eventbridge.adapter.persistence.quota.mybatis.mapper.EventRateLimitLeaseMapper;
+import org.apache.rocketmq.eventbridge.domain.repository.RateLimitLeaseRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Keeps a row of the demand per node of an event bus. The row of a node is created by its first report, which also
+ * deletes the rows of the nodes which stopped reporting, and the expired rows are left out of the total demand.
+ */
+@Repository
+public class MybatisRateLimitLeaseRepository implements RateLimitLeaseRepository {
+
+    private EventRateLimitLeaseMapper eventRateLimitLeaseMapper;
+
+    public MybatisRateLimitLeaseRepository(EventRateLimitLeaseMapper eventRateLimitLeaseMapper) {
+        this.eventRateLimitLeaseMapper = eventRateLimitLeaseMapper;
+    }
+
+    @Override
+    public long reportDemand(String accountId, String eventBusName, String nodeId, long demand, long expireAt,
+        long now) {
+        if (eventRateLimitLeaseMapper.updateDemand(accountId, eventBusName, nodeId, demand, expireAt) == 0) {
+            try {
+                eventRateLimitLeaseMapper.createLease(accountId, eventBusName, nodeId, demand, expireAt);
+            } catch (DuplicateKeyException e) {
+                eventRateLimitLeaseMapper.updateDemand(accountId, eventBusName, nodeId, demand, expireAt);
+            }
+            eventRateLimitLeaseMapper.deleteExpiredLeases(accountId, eventBusName, now);
+        }
+        Long totalDemand = eventRateLimitLeaseMapper.sumDemand(accountId, eventBusName, now);
+        return totalDemand == null ? demand : totalDemand;
+    }
+}
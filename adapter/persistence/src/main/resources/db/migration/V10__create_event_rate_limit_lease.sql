@@ -0,0 +1,30 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+CREATE TABLE IF NOT EXISTS `event_rate_limit_lease` (
+    `id` int(11) unsigned NOT NULL AUTO_INCREMENT,
+    `account_id` varchar(255) NOT NULL COMMENT 'event bus account id',
+    `bus` varchar(255) NOT NULL COMMENT 'event bus name',
+    `node` varchar(64) NOT NULL COMMENT 'api node id',
+    `demand` bigint(20) NOT NULL DEFAULT 0 COMMENT 'events per second requested on the node',
+    `expire_at` bigint(20) NOT NULL COMMENT 'expire time of the demand, in epoch milliseconds',
+    `gmt_create` datetime DEFAULT NULL COMMENT 'create time',
+    `gmt_modify` datetime DEFAULT NULL COMMENT 'modify time',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `node_uniq_key_event_rate_limit_lease` (`account_id`, `bus`, `node`)
+    ) ENGINE=InnoDB  DEFAULT CHARSET=utf8
+;
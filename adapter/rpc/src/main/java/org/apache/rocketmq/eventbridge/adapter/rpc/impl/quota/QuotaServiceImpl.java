@@ -20,11 +20,18 @@ package org.apache.rocketmq.eventbridge.adapter.rpc.impl.quota;
 import org.apache.rocketmq.eventbridge.domain.common.EventBridgeConstants;
 import org.apache.rocketmq.eventbridge.domain.common.enums.TotalQuotaEnum;
 import org.apache.rocketmq.eventbridge.domain.model.quota.QuotaService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 public class QuotaServiceImpl implements QuotaService {
 
+    /**
+     * The max events per second put to an event bus, unlimited if not configured
+     */
+    @Value("${eventbridge.putEvents.tpsQuota:#{null}}")
+    private Integer putEventsTpsQuota;
+
     @Override
     public Integer getTotalQuota(String accountId, TotalQuotaEnum totalQuotaEnum) {
         if (TotalQuotaEnum.API_DESTINATION_COUNT.name().equals(totalQuotaEnum.name())) {
@@ -35,4 +42,9 @@ public class QuotaServiceImpl implements QuotaService {
         }
         return null;
     }
+
+    @Override
+    public Integer getPutEventsTpsQuota(String accountId, String eventBusName) {
+        return putEventsTpsQuota;
+    }
 }
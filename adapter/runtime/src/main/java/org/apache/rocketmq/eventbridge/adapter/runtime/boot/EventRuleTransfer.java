@@ -89,6 +89,10 @@ public class EventRuleTransfer extends ServiceThread {
                 for (String runnerName : eventRecordMap.keySet()) {
                     TransformEngine<ConnectRecord> curTransformEngine = latestTransformMap.get(runnerName);
                     List<ConnectRecord> curEventRecords = eventRecordMap.get(runnerName);
+                    if (curTransformEngine != null && curTransformEngine.isEmpty()) {
+                        afterTransformConnect.addAll(curEventRecords);
+                        continue;
+                    }
                     curEventRecords.forEach(pullRecord -> {
                         CompletableFuture<Void> transformFuture = CompletableFuture.supplyAsync(() -> curTransformEngine.doTransforms(pullRecord))
                             .exceptionally((exception) -> {
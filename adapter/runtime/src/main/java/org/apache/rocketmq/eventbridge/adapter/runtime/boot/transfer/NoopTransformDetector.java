@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.adapter.runtime.boot.transfer;
+
+import com.google.common.base.Strings;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import java.util.Map;
+import org.apache.rocketmq.eventbridge.adapter.runtime.config.RuntimeConfigDefine;
+import org.apache.rocketmq.eventbridge.tools.transform.TransformEnum;
+import org.apache.rocketmq.eventbridge.tools.transform.TransformParam;
+
+/**
+ * Detects the transform stages which return every record as is, so the engine can drop them when it is built. The
+ * transforms are loaded by isolated plugin class loaders, so the detection only relies on their configs:
+ * <ul>
+ *     <li>the filter transform with an empty event pattern ("{}")</li>
+ *     <li>the EventBridge transform without transform params, or only transforming the data by ORIGINAL form</li>
+ * </ul>
+ */
+class NoopTransformDetector {
+
+    static final String FILTER_TRANSFORM_CLASS
+        = "org.apache.rocketmq.connect.transform.eventbridge.EventBridgeFilterTransform";
+
+    static final String FILTER_PATTERN_KEY = "filterPattern";
+
+    static final String EB_TRANSFORM_CLASS = "org.apache.rocketmq.connect.transform.eventbridge.EventBridgeTransform";
+
+    static final String DATA_KEY = "data";
+
+    private static final Gson GSON = new Gson();
+
+    private NoopTransformDetector() {
+    }
+
+    /**
+     * Tests whether the transform returns every record as is
+     *
+     * @param transformClass the class name of the transform
+     * @param transformConfig the config of the transform
+     * @return true if the transform is a no-op, false otherwise or if it can't be decided
+     */
+    static boolean isNoop(String transformClass, Map<String, String> transformConfig) {
+        if (FILTER_TRANSFORM_CLASS.equals(transformClass)) {
+            return isEmptyFilterPattern(transformConfig.get(FILTER_PATTERN_KEY));
+        }
+        if (EB_TRANSFORM_CLASS.equals(transformClass)) {
+            return isOriginalTransform(transformConfig);
+        }
+        return false;
+    }
+
+    private static boolean isEmptyFilterPattern(String filterPattern) {
+        if (Strings.isNullOrEmpty(filterPattern)) {
+            return false;
+        }
+        try {
+            JsonElement element = JsonParser.parseString(filterPattern);
+            return element.isJsonObject() && element.getAsJsonObject()
+                .size() == 0;
+        } catch (JsonSyntaxException e) {
+            return false;
+        }
+    }
+
+    private static boolean isOriginalTransform(Map<String, String> transformConfig) {
+        for (Map.Entry<String, String> entry : transformConfig.entrySet()) {
+            if (RuntimeConfigDefine.RUNNER_CLASS.equals(entry.getKey())) {
+                continue;
+            }
+            if (!DATA_KEY.equals(entry.getKey())) {
+                return false;
+            }
+            TransformParam transformParam;
+            try {
+                transformParam = GSON.fromJson(entry.getValue(), TransformParam.class);
+            } catch (JsonSyntaxException e) {
+                return false;
+            }
+            if (transformParam == null || transformParam.getForm() != TransformEnum.ORIGINAL) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -64,6 +64,10 @@ public class TransformEngine<R extends ConnectRecord> implements AutoCloseable {
         for (int index = 1; index < endIndex; index++) {
             Map<String, String> transferMap = transferConfigs.get(index);
             String transformClass = transferMap.get(RuntimeConfigDefine.RUNNER_CLASS);
+            if (NoopTransformDetector.isNoop(transformClass, transferMap)) {
+                logger.info("skip no-op transform - {}, config - {}", transformClass, transferMap);
+                continue;
+            }
             try {
                 Transform transform = getTransform(transformClass);
                 KeyValue transformConfig = new DefaultKeyValue();
@@ -99,21 +103,23 @@ public class TransformEngine<R extends ConnectRecord> implements AutoCloseable {
         return targetKeyValue;
     }
 
+    /**
+     * whether no transform is left after the no-op transforms are dropped, the records can be pushed as is
+     * @return
+     */
+    public boolean isEmpty() {
+        return transformList.isEmpty();
+    }
+
     /**
      * transform event record for target record
      * @param connectRecord
      * @return
      */
     public R doTransforms(R connectRecord) {
-        if (transformList.size() == 0) {
-            return connectRecord;
-        }
-        for (final Transform<R> transform : transformList) {
-            final R currentRecord = connectRecord;
-            connectRecord = transform.doTransform(currentRecord);
-            if (connectRecord == null) {
-                break;
-            }
+        for (int index = 0, size = transformList.size(); index < size && connectRecord != null; index++) {
+            final Transform<R> transform = transformList.get(index);
+            connectRecord = transform.doTransform(connectRecord);
         }
         return connectRecord;
     }
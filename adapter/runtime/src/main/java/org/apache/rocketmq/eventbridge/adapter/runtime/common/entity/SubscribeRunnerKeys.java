@@ -34,17 +34,22 @@ public class SubscribeRunnerKeys implements Serializable {
 
     private String eventBusName;
 
+    /**
+     * Whether the sink of the runner accepts byte[] record data, so the message body isn't decoded to string
+     */
+    private boolean binaryData;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         SubscribeRunnerKeys that = (SubscribeRunnerKeys) o;
-        return Objects.equals(accountId, that.accountId) && Objects.equals(runnerName, that.runnerName) && Objects.equals(eventBusName, that.eventBusName);
+        return Objects.equals(accountId, that.accountId) && Objects.equals(runnerName, that.runnerName) && Objects.equals(eventBusName, that.eventBusName) && binaryData == that.binaryData;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(accountId, runnerName, eventBusName);
+        return Objects.hash(accountId, runnerName, eventBusName, binaryData);
     }
 
     @Override
@@ -53,6 +58,7 @@ public class SubscribeRunnerKeys implements Serializable {
                 "accountId='" + accountId + '\'' +
                 ", runnerName='" + runnerName + '\'' +
                 ", eventBusName='" + eventBusName + '\'' +
+                ", binaryData=" + binaryData +
                 '}';
     }
 }
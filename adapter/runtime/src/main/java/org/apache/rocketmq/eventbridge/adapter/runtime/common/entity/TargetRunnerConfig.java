@@ -29,6 +29,7 @@ import org.apache.rocketmq.eventbridge.enums.PushRetryStrategyEnum;
 
 import static org.apache.rocketmq.eventbridge.adapter.runtime.config.RuntimeConfigDefine.TARGET_RUNNER_KEY;
 import static org.apache.rocketmq.eventbridge.adapter.runtime.config.RuntimeConfigDefine.ACCOUNT_ID;
+import static org.apache.rocketmq.eventbridge.adapter.runtime.config.RuntimeConfigDefine.BINARY_DATA;
 
 /**
  * pusher target key config
@@ -117,11 +118,20 @@ public class TargetRunnerConfig implements Serializable {
         return components.get(0).get(ACCOUNT_ID);
     }
 
+    /**
+     * Whether the sink of the runner declares that it accepts byte[] record data by {@link
+     * org.apache.rocketmq.eventbridge.adapter.runtime.config.RuntimeConfigDefine#BINARY_DATA}
+     */
+    public boolean isBinaryData() {
+        return Boolean.parseBoolean(components.get(components.size() - 1).get(BINARY_DATA));
+    }
+
     public SubscribeRunnerKeys getSubscribeRunnerKeys(){
         SubscribeRunnerKeys subscribeRunnerKeys = new SubscribeRunnerKeys();
         subscribeRunnerKeys.setRunnerName(this.getName());
         subscribeRunnerKeys.setAccountId(this.getAccountId());
         subscribeRunnerKeys.setEventBusName(this.getEventBusName());
+        subscribeRunnerKeys.setBinaryData(this.isBinaryData());
         return subscribeRunnerKeys;
     }
 }
@@ -41,4 +41,11 @@ public class RuntimeConfigDefine {
 
     public static final String ACCOUNT_ID = "accountId";
 
+    /**
+     * The key of the sink config declaring that the sink accepts byte[] record data. The records of such a runner keep
+     * the message body as UTF-8 encoded bytes, which the schema of the record still describes as the decoded payload,
+     * and the filters and transforms of the runner must accept byte[] data as well.
+     */
+    public static final String BINARY_DATA = "binaryData";
+
 }
@@ -49,13 +49,7 @@ public abstract class AbstractTargetRunnerConfigObserver implements TargetRunner
         if(CollectionUtils.isEmpty(targetRunnerConfigs)){
             return null;
         }
-        return targetRunnerConfigs.stream().map(item -> {
-            SubscribeRunnerKeys subscribeRunnerKeys = new SubscribeRunnerKeys();
-            subscribeRunnerKeys.setRunnerName(item.getName());
-            subscribeRunnerKeys.setAccountId(item.getAccountId());
-            subscribeRunnerKeys.setEventBusName(item.getEventBusName());
-            return subscribeRunnerKeys;
-        }).collect(Collectors.toSet());
+        return targetRunnerConfigs.stream().map(TargetRunnerConfig::getSubscribeRunnerKeys).collect(Collectors.toSet());
     }
 
     public abstract Set<TargetRunnerConfig> getLatestTargetRunnerConfig();
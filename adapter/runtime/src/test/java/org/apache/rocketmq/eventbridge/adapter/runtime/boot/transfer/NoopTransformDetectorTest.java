@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.adapter.runtime.boot.transfer;
+
+import com.google.common.collect.Maps;
+import java.util.Map;
+import org.apache.rocketmq.eventbridge.adapter.runtime.config.RuntimeConfigDefine;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NoopTransformDetectorTest {
+
+    private static final String CLOUD_EVENT_TRANSFORM_CLASS
+        = "org.apache.rocketmq.connect.transform.eventbridge.CloudEventTransform";
+
+    @Test
+    public void testFilterTransform() {
+        Assert.assertTrue(NoopTransformDetector.isNoop(NoopTransformDetector.FILTER_TRANSFORM_CLASS,
+            filterConfig("{}")));
+        Assert.assertTrue(NoopTransformDetector.isNoop(NoopTransformDetector.FILTER_TRANSFORM_CLASS,
+            filterConfig(" { } ")));
+        Assert.assertFalse(NoopTransformDetector.isNoop(NoopTransformDetector.FILTER_TRANSFORM_CLASS,
+            filterConfig("{\"source\":[\"acs.oss\"]}")));
+        Assert.assertFalse(NoopTransformDetector.isNoop(NoopTransformDetector.FILTER_TRANSFORM_CLASS,
+            filterConfig(null)));
+        Assert.assertFalse(NoopTransformDetector.isNoop(NoopTransformDetector.FILTER_TRANSFORM_CLASS,
+            filterConfig("{")));
+    }
+
+    @Test
+    public void testEventBridgeTransform() {
+        Map<String, String> config = Maps.newHashMap();
+        config.put(RuntimeConfigDefine.RUNNER_CLASS, NoopTransformDetector.EB_TRANSFORM_CLASS);
+        Assert.assertTrue(NoopTransformDetector.isNoop(NoopTransformDetector.EB_TRANSFORM_CLASS, config));
+
+        config.put(NoopTransformDetector.DATA_KEY, "{\"form\":\"ORIGINAL\"}");
+        Assert.assertTrue(NoopTransformDetector.isNoop(NoopTransformDetector.EB_TRANSFORM_CLASS, config));
+
+        config.put(NoopTransformDetector.DATA_KEY, "{\"form\":\"CONSTANT\",\"value\":\"test\"}");
+        Assert.assertFalse(NoopTransformDetector.isNoop(NoopTransformDetector.EB_TRANSFORM_CLASS, config));
+
+        config.put(NoopTransformDetector.DATA_KEY, "{\"form\":\"ORIGINAL\"}");
+        config.put("subject", "{\"form\":\"ORIGINAL\"}");
+        Assert.assertFalse(NoopTransformDetector.isNoop(NoopTransformDetector.EB_TRANSFORM_CLASS, config));
+    }
+
+    @Test
+    public void testCloudEventTransform() {
+        Map<String, String> config = Maps.newHashMap();
+        config.put(RuntimeConfigDefine.RUNNER_CLASS, CLOUD_EVENT_TRANSFORM_CLASS);
+        Assert.assertFalse(NoopTransformDetector.isNoop(CLOUD_EVENT_TRANSFORM_CLASS, config));
+    }
+
+    private static Map<String, String> filterConfig(String filterPattern) {
+        Map<String, String> config = Maps.newHashMap();
+        config.put(RuntimeConfigDefine.RUNNER_CLASS, NoopTransformDetector.FILTER_TRANSFORM_CLASS);
+        config.put(NoopTransformDetector.FILTER_PATTERN_KEY, filterPattern);
+        return config;
+    }
+}
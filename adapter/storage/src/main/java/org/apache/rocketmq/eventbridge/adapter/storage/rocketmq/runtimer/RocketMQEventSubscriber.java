@@ -221,7 +221,8 @@ public class RocketMQEventSubscriber extends EventSubscriber {
         }
         for (SubscribeRunnerKeys subscribeRunnerKeys : subscribeRunnerKeysSet) {
             LitePullConsumer litePullConsumer = initLitePullConsumer(subscribeRunnerKeys);
-            ConsumeWorker consumeWorker = new ConsumeWorker(litePullConsumer, subscribeRunnerKeys.getRunnerName());
+            ConsumeWorker consumeWorker = new ConsumeWorker(litePullConsumer, subscribeRunnerKeys.getRunnerName(),
+                subscribeRunnerKeys.isBinaryData());
             consumeWorkerMap.put(subscribeRunnerKeys.getRunnerName(), consumeWorker);
             consumeWorker.start();
         }
@@ -280,8 +281,11 @@ public class RocketMQEventSubscriber extends EventSubscriber {
         byte[] body = messageExt.getBody();
         RecordPartition recordPartition = convertToRecordPartition(messageExt.getTopic(), messageExt.getBrokerName(), messageExt.getQueueId(), messageExt.getMsgId());
         RecordOffset recordOffset = convertToRecordOffset(messageExt.getQueueOffset());
-        String bodyStr = new String(body, StandardCharsets.UTF_8);
-        sinkRecord = new ConnectRecord(recordPartition, recordOffset, timestamp, schema, bodyStr);
+        // the body is kept as bytes only for the runners whose sink declares it accepts byte[] data
+        ConsumeWorker consumeWorker = consumeWorkerMap.get(properties.get(RuntimeConfigDefine.RUNNER_NAME));
+        Object data = consumeWorker != null && consumeWorker.binaryData ? body
+            : new String(body, StandardCharsets.UTF_8);
+        sinkRecord = new ConnectRecord(recordPartition, recordOffset, timestamp, schema, data);
         KeyValue keyValue = new DefaultKeyValue();
         if (MapUtils.isNotEmpty(properties)) {
             for (Map.Entry<String, String> entry : properties.entrySet()) {
@@ -315,7 +319,8 @@ public class RocketMQEventSubscriber extends EventSubscriber {
             consumeWorker.shutdown();
         }
         LitePullConsumer litePullConsumer = initLitePullConsumer(subscribeRunnerKeys);
-        ConsumeWorker newWorker = new ConsumeWorker(litePullConsumer, subscribeRunnerKeys.getRunnerName());
+        ConsumeWorker newWorker = new ConsumeWorker(litePullConsumer, subscribeRunnerKeys.getRunnerName(),
+            subscribeRunnerKeys.isBinaryData());
         consumeWorkerMap.put(subscribeRunnerKeys.getRunnerName(), newWorker);
         newWorker.start();
     }
@@ -331,10 +336,12 @@ public class RocketMQEventSubscriber extends EventSubscriber {
 
         private final LitePullConsumer pullConsumer;
         private final String runnerName;
+        private final boolean binaryData;
 
-        public ConsumeWorker(LitePullConsumer pullConsumer, String runnerName) {
+        public ConsumeWorker(LitePullConsumer pullConsumer, String runnerName, boolean binaryData) {
             this.pullConsumer = pullConsumer;
             this.runnerName = runnerName;
+            this.binaryData = binaryData;
         }
 
         @Override
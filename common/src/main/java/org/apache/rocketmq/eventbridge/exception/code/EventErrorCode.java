@@ -31,6 +31,8 @@ public enum EventErrorCode implements BaseErrorCode {
         "The event specversion [{0}] is invalid! which must bu in [1.0,0.3]"),
     EventContentTypeInvalid(409, "EventContentTypeInvalid",
         "The event content type [{0}] is invalid! which not in supported types:[{1}]"),
+    EventContentEncodingInvalid(409, "EventContentEncodingInvalid",
+        "The event content encoding [{0}] is invalid! which not in supported encodings:[{1}]"),
     EventExtensionsAttributeExceedLimit(409, "EventExtensionsAttributeExceedLimit",
         "The extensions attribute size is [{0}], which exceed the limit [{1}]"),
     EventExtensionsAttributeInvalid(409, "EventExtensionsAttributeInvalid", "The extensions attribute is invalid."),
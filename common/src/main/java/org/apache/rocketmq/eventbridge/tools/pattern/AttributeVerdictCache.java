@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.tools.pattern;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A bounded LRU cache of the match verdict of one attribute {@link PatternEntry} group.
+ * <p>
+ * The cache key is the fingerprint of the attribute values referenced by the pattern entries, in the order of the
+ * entries, so events sharing the same source/type/subject reuse the verdict without re-evaluating the conditions.
+ * Only string valued (or absent) attributes are fingerprinted, other json values bypass the cache since their
+ * string representation isn't enough to decide the verdict.
+ */
+class AttributeVerdictCache {
+    static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    /**
+     * Getting an attribute is a map lookup
+     */
+    private static final int ATTRIBUTE_READ_COST = 1;
+
+    private final List<PatternEntry> patternEntries;
+    private final Cache<List<String>, Boolean> verdicts;
+    private final PatternEntryOrder entryOrder = new PatternEntryOrder(ATTRIBUTE_READ_COST);
+
+    AttributeVerdictCache(List<PatternEntry> patternEntries, int maximumSize) {
+        this.patternEntries = patternEntries;
+        this.verdicts = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .build();
+        this.entryOrder.reset(patternEntries);
+    }
+
+    /**
+     * Evaluates the attributes in map format, consulting the cache first
+     *
+     * @param attrs the provided attributes in map format
+     * @return true if matches the pattern entries, false otherwise
+     */
+    boolean evaluate(Map<String, JsonElement> attrs) {
+        if (patternEntries.isEmpty()) {
+            return true;
+        }
+        String[] fingerprint = new String[patternEntries.size()];
+        for (int i = 0; i < fingerprint.length; i++) {
+            JsonElement val = attrs.get(patternEntries.get(i)
+                .getPatternName());
+            if (val == null) {
+                continue;
+            }
+            if (!val.isJsonPrimitive() || !val.getAsJsonPrimitive()
+                .isString()) {
+                return match(attrs::get);
+            }
+            fingerprint[i] = val.getAsString();
+        }
+        return lookup(fingerprint);
+    }
+
+    /**
+     * Evaluates the string attributes provided by the reader, the json elements are only built on cache miss
+     *
+     * @param attrReader returns the attribute value by name, or null if absent
+     * @return true if matches the pattern entries, false otherwise
+     */
+    boolean evaluate(Function<String, String> attrReader) {
+        if (patternEntries.isEmpty()) {
+            return true;
+        }
+        String[] fingerprint = new String[patternEntries.size()];
+        for (int i = 0; i < fingerprint.length; i++) {
+            fingerprint[i] = attrReader.apply(patternEntries.get(i)
+                .getPatternName());
+        }
+        return lookup(fingerprint);
+    }
+
+    /**
+     * Discards the cached verdicts and the evaluation order after the pattern entries are changed
+     */
+    void invalidateAll() {
+        verdicts.invalidateAll();
+        entryOrder.reset(patternEntries);
+    }
+
+    long size() {
+        return verdicts.size();
+    }
+
+    private boolean lookup(String[] fingerprint) {
+        List<String> key = Arrays.asList(fingerprint);
+        Boolean verdict = verdicts.getIfPresent(key);
+        if (verdict == null) {
+            verdict = match(fingerprint);
+            verdicts.put(key, verdict);
+        }
+        return verdict;
+    }
+
+    PatternEntryOrder getEntryOrder() {
+        return entryOrder;
+    }
+
+    private boolean match(String[] fingerprint) {
+        return entryOrder.matchAll((index, patternEntry) -> patternEntry.match(
+            fingerprint[index] == null ? null : new JsonPrimitive(fingerprint[index])));
+    }
+
+    private boolean match(Function<String, JsonElement> attrs) {
+        return entryOrder.matchAll(
+            (index, patternEntry) -> patternEntry.match(attrs.apply(patternEntry.getPatternName())));
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.tools.pattern;
+
+/**
+ * A thin read-only view of an event for {@link PatternEvaluator#evaluate(EventAccessor)}, so the event carrier (such
+ * as a ConnectRecord) can be evaluated directly without being converted into json trees.
+ */
+public interface EventAccessor {
+    /**
+     * Returns the value of the CloudEvents spec attribute or extension attribute
+     *
+     * @param name the attribute name
+     * @return the attribute value, or null if the event doesn't have the attribute
+     */
+    String getAttribute(String name);
+
+    /**
+     * Returns the data of the event, only read when the pattern has data pattern entries
+     *
+     * @return the data in json format, or null if the event doesn't have data
+     */
+    String getData();
+}
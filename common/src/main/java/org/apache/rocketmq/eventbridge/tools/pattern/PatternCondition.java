@@ -36,6 +36,15 @@ public interface PatternCondition {
      * @return true if match, false otherwise
      */
     boolean match(JsonElement jsonData);
+
+    /**
+     * Estimates the relative cost to test a json element, used to order the evaluation of pattern entries
+     *
+     * @return the estimated cost, at least 1
+     */
+    default int estimateCost() {
+        return 1;
+    }
 }
 
 abstract class AbstractPatternCondition implements PatternCondition {
@@ -191,6 +200,15 @@ class AnythingButCondition extends AbstractPatternCondition {
         return matchJsonElement(jsonNull);
     }
 
+    @Override
+    public int estimateCost() {
+        int cost = 0;
+        for (final PatternCondition condition : anythingButs) {
+            cost += condition.estimateCost();
+        }
+        return Math.max(cost, 1);
+    }
+
     private boolean matchJsonElement(final JsonElement jsonElement) {
         for (final PatternCondition condition : anythingButs) {
             if (condition.match(jsonElement)) {
@@ -210,6 +228,11 @@ class NumericCondition extends AbstractPatternCondition {
         operatorList.add(operator);
     }
 
+    @Override
+    public int estimateCost() {
+        return Math.max(operatorList.size(), 1);
+    }
+
     @Override
     boolean matchPrimitive(final JsonPrimitive jsonPrimitive) {
         if (!jsonPrimitive.isNumber()) {
@@ -259,6 +282,14 @@ class CIDRCondition extends AbstractPatternCondition {
         return flag;
     }
 
+    /**
+     * The subnet is parsed and the address is resolved for every test
+     */
+    @Override
+    public int estimateCost() {
+        return 8;
+    }
+
     @Override
     boolean matchPrimitive(final JsonPrimitive jsonPrimitive) {
         return jsonPrimitive.isString() && matchIpAddress(jsonPrimitive.getAsString());
@@ -91,6 +91,19 @@ public class PatternEntry {
         return false;
     }
 
+    /**
+     * Estimates the relative cost to match a json element, which is the sum of the condition costs
+     *
+     * @return the estimated cost
+     */
+    public int estimateCost() {
+        int cost = 0;
+        for (final PatternCondition patternCondition : conditionList) {
+            cost += patternCondition.estimateCost();
+        }
+        return cost;
+    }
+
     /**
      * Returns the condition list for test only
      *
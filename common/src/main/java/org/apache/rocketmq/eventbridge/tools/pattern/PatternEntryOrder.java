@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.tools.pattern;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The evaluation order of a {@link PatternEntry} group. All entries of a group must match, so the order doesn't change
+ * the verdict, but evaluating the cheapest and most selective entry first rejects an event with less work.
+ * <p>
+ * The entries are ordered by the estimated cost divided by the observed rejection rate, the rejection rate is
+ * smoothed over windows of {@link #REORDER_INTERVAL} evaluations and the order is swapped atomically, so concurrent
+ * evaluations never block each other.
+ */
+class PatternEntryOrder {
+    static final int REORDER_INTERVAL = 1024;
+
+    /**
+     * The rejection rate assumed for an entry before any event is observed
+     */
+    private static final double INITIAL_REJECTION_RATE = 0.5;
+
+    /**
+     * The weight of the latest window when smoothing the rejection rate
+     */
+    private static final double WINDOW_WEIGHT = 0.5;
+
+    /**
+     * Avoids dividing by zero for an entry never rejecting events
+     */
+    private static final double MIN_REJECTION_RATE = 0.001;
+
+    private final int baseCost;
+    private final AtomicLong evaluations = new AtomicLong();
+    private final AtomicBoolean reordering = new AtomicBoolean();
+    private volatile Slot[] slots = new Slot[0];
+
+    /**
+     * @param baseCost the cost to get the value of an entry, added to the cost of the entry conditions
+     */
+    PatternEntryOrder(int baseCost) {
+        this.baseCost = baseCost;
+    }
+
+    /**
+     * Resets the order and the statistics after the entries are changed
+     *
+     * @param patternEntries the pattern entries of the group
+     */
+    synchronized void reset(List<PatternEntry> patternEntries) {
+        Slot[] newSlots = new Slot[patternEntries.size()];
+        for (int i = 0; i < newSlots.length; i++) {
+            PatternEntry patternEntry = patternEntries.get(i);
+            newSlots[i] = new Slot(i, patternEntry, baseCost + patternEntry.estimateCost());
+        }
+        Arrays.sort(newSlots, SLOT_COMPARATOR);
+        this.slots = newSlots;
+    }
+
+    /**
+     * Tests whether all entries match in the current order, stopping at the first entry which doesn't match
+     *
+     * @param matcher matches the entry with its index in the group
+     * @return true if all entries match, false otherwise
+     */
+    boolean matchAll(EntryMatcher matcher) {
+        final Slot[] current = this.slots;
+        boolean matched = true;
+        for (final Slot slot : current) {
+            slot.evaluated.increment();
+            if (!matcher.match(slot.index, slot.patternEntry)) {
+                slot.rejected.increment();
+                matched = false;
+                break;
+            }
+        }
+        if (evaluations.incrementAndGet() % REORDER_INTERVAL == 0) {
+            reorder();
+        }
+        return matched;
+    }
+
+    void reorder() {
+        if (!reordering.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Slot[] newSlots = this.slots.clone();
+            for (final Slot slot : newSlots) {
+                slot.updateRejectionRate();
+            }
+            Arrays.sort(newSlots, SLOT_COMPARATOR);
+            this.slots = newSlots;
+        } finally {
+            reordering.set(false);
+        }
+    }
+
+    /**
+     * Returns the pattern entries in the current order, for test only
+     */
+    PatternEntry[] currentOrder() {
+        final Slot[] current = this.slots;
+        PatternEntry[] patternEntries = new PatternEntry[current.length];
+        for (int i = 0; i < current.length; i++) {
+            patternEntries[i] = current[i].patternEntry;
+        }
+        return patternEntries;
+    }
+
+    interface EntryMatcher {
+        boolean match(int index, PatternEntry patternEntry);
+    }
+
+    private static final Comparator<Slot> SLOT_COMPARATOR = Comparator.comparingDouble(Slot::rank)
+        .thenComparingInt(slot -> slot.index);
+
+    private static class Slot {
+        private final int index;
+        private final PatternEntry patternEntry;
+        private final int cost;
+        private final LongAdder evaluated = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private long lastEvaluated;
+        private long lastRejected;
+        private volatile double rejectionRate = INITIAL_REJECTION_RATE;
+
+        Slot(int index, PatternEntry patternEntry, int cost) {
+            this.index = index;
+            this.patternEntry = patternEntry;
+            this.cost = cost;
+        }
+
+        /**
+         * The expected cost to reject an event, the lower ranks first
+         */
+        double rank() {
+            return cost / Math.max(rejectionRate, MIN_REJECTION_RATE);
+        }
+
+        void updateRejectionRate() {
+            long totalEvaluated = evaluated.sum();
+            long totalRejected = rejected.sum();
+            long windowEvaluated = totalEvaluated - lastEvaluated;
+            long windowRejected = totalRejected - lastRejected;
+            lastEvaluated = totalEvaluated;
+            lastRejected = totalRejected;
+            if (windowEvaluated <= 0) {
+                return;
+            }
+            double windowRate = (double) windowRejected / windowEvaluated;
+            rejectionRate = WINDOW_WEIGHT * windowRate + (1 - WINDOW_WEIGHT) * rejectionRate;
+        }
+    }
+}
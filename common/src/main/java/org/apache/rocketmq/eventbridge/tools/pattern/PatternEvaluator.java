@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import org.apache.rocketmq.eventbridge.config.AppConfig;
 import org.apache.rocketmq.eventbridge.event.EventBridgeEvent;
 
@@ -43,6 +44,11 @@ import org.apache.rocketmq.eventbridge.event.EventBridgeEvent;
  * </ul>
  */
 public class PatternEvaluator {
+    /**
+     * Reading a data entry evaluates its json path against the parsed data
+     */
+    private static final int DATA_READ_COST = 4;
+
     Configuration jsonPathConf = Configuration.builder()
         .jsonProvider(new GsonJsonProvider())
         .build();
@@ -51,6 +57,23 @@ public class PatternEvaluator {
     private List<PatternEntry> extensionsAttrPatternList = new ArrayList<>();
     private List<PatternEntry> dataPatternList = new ArrayList<>();
 
+    private final PatternEntryOrder dataEntryOrder = new PatternEntryOrder(DATA_READ_COST);
+    private final AttributeVerdictCache specAttrVerdictCache;
+    private final AttributeVerdictCache extensionsAttrVerdictCache;
+
+    public PatternEvaluator() {
+        this(AttributeVerdictCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param verdictCacheSize the maximum number of attribute fingerprints whose verdict is cached, for the spec
+     * attributes and the extensions attributes respectively
+     */
+    public PatternEvaluator(int verdictCacheSize) {
+        this.specAttrVerdictCache = new AttributeVerdictCache(specAttrPatternList, verdictCacheSize);
+        this.extensionsAttrVerdictCache = new AttributeVerdictCache(extensionsAttrPatternList, verdictCacheSize);
+    }
+
     /**
      * Evaluates the provided json string whether matches the event pattern
      *
@@ -64,18 +87,14 @@ public class PatternEvaluator {
         final ReadContext jsonContext = JsonPath.using(jsonPathConf)
             .parse(jsonData);
 
-        for (final PatternEntry patternEntry : dataPatternList) {
+        return dataEntryOrder.matchAll((index, patternEntry) -> {
             JsonElement jsonElement = null;
             try {
                 jsonElement = jsonContext.read(patternEntry.getPatternPath());
             } catch (PathNotFoundException ignored) {
             }
-
-            if (!patternEntry.match(jsonElement)) {
-                return false;
-            }
-        }
-        return true;
+            return patternEntry.match(jsonElement);
+        });
     }
 
     /**
@@ -85,7 +104,18 @@ public class PatternEvaluator {
      * @return true if matches the pattern, false otherwise
      */
     public boolean evaluateSpecAttr(Map<String, JsonElement> specAttrs) {
-        return evaluateAttrMap(specAttrs, specAttrPatternList);
+        return specAttrVerdictCache.evaluate(specAttrs);
+    }
+
+    /**
+     * Evaluates the spec attributes read by name whether matches the event pattern, only the attributes referenced by
+     * the pattern are read, and no json element is built if the verdict of the same attributes is cached
+     *
+     * @param specAttrReader returns the string value of the spec attribute, or null if absent
+     * @return true if matches the pattern, false otherwise
+     */
+    public boolean evaluateSpecAttr(Function<String, String> specAttrReader) {
+        return specAttrVerdictCache.evaluate(specAttrReader);
     }
 
     /**
@@ -95,7 +125,18 @@ public class PatternEvaluator {
      * @return true if matches the pattern, false otherwise
      */
     public boolean evaluateExtensionAttr(Map<String, JsonElement> extensionsAttrs) {
-        return evaluateAttrMap(extensionsAttrs, extensionsAttrPatternList);
+        return extensionsAttrVerdictCache.evaluate(extensionsAttrs);
+    }
+
+    /**
+     * Evaluates the extensions attributes read by name whether matches the event pattern
+     *
+     * @param extensionsAttrReader returns the string value of the extension attribute, or null if absent
+     * @return true if matches the pattern, false otherwise
+     * @see #evaluateSpecAttr(Function)
+     */
+    public boolean evaluateExtensionAttr(Function<String, String> extensionsAttrReader) {
+        return extensionsAttrVerdictCache.evaluate(extensionsAttrReader);
     }
 
     /**
@@ -154,6 +195,29 @@ public class PatternEvaluator {
         return evaluateData(dataObj.toString());
     }
 
+    /**
+     * Tests whether the event pattern matches the event read by the accessor, the attributes are checked before the
+     * data, and the data is only read when there are data patterns.
+     *
+     * @param eventAccessor the accessor of the provided event
+     * @return true if match
+     */
+    public boolean evaluate(EventAccessor eventAccessor) {
+        if (!evaluateSpecAttr(eventAccessor::getAttribute)) {
+            return false;
+        }
+
+        if (!evaluateExtensionAttr(eventAccessor::getAttribute)) {
+            return false;
+        }
+
+        if (!hasDataPattern()) {
+            return true;
+        }
+
+        return evaluateData(eventAccessor.getData());
+    }
+
     /**
      * Tests whether the evaluator has data patterns
      *
@@ -175,27 +239,20 @@ public class PatternEvaluator {
 
     public void addSpecAttrPatternEntry(PatternEntry patternEntry) {
         this.specAttrPatternList.add(patternEntry);
+        this.specAttrVerdictCache.invalidateAll();
     }
 
     public void addExtensionsAttrPatternEntry(PatternEntry patternEntry) {
         this.extensionsAttrPatternList.add(patternEntry);
+        this.extensionsAttrVerdictCache.invalidateAll();
     }
 
     public void addDataPatternEntry(PatternEntry patternEntry) {
         this.dataPatternList.add(patternEntry);
+        this.dataEntryOrder.reset(dataPatternList);
     }
 
-    private boolean evaluateAttrMap(Map<String, JsonElement> attr, List<PatternEntry> ruleEntries) {
-        for (final PatternEntry patternEntry : ruleEntries) {
-            JsonElement val = attr.get(patternEntry.getPatternName());
-            if (!patternEntry.match(val)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    // Below three getters only for test
+    // Below getters only for test
 
     List<PatternEntry> getSpecAttrPatternList() {
         return specAttrPatternList;
@@ -208,4 +265,12 @@ public class PatternEvaluator {
     List<PatternEntry> getDataPatternList() {
         return dataPatternList;
     }
+
+    AttributeVerdictCache getSpecAttrVerdictCache() {
+        return specAttrVerdictCache;
+    }
+
+    PatternEntryOrder getDataEntryOrder() {
+        return dataEntryOrder;
+    }
 }
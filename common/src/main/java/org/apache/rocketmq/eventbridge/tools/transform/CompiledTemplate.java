@@ -0,0 +1,341 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.tools.transform;
+
+import com.google.common.base.Strings;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+
+/**
+ * The template compiled into literal and placeholder segments when the transform is built, so rendering an event only
+ * appends the segments to a reusable {@link StringBuilder}.
+ * <p>
+ * The placeholder syntax is "${name}", or "${name:-default}" to render the default value when the variable is absent,
+ * and "$${name}" renders "${name}" as is. A placeholder whose variable is absent is rendered as is.
+ * <p>
+ * In a json template, an object with the {@link #EB_SYS_EMBED_OBJECT} member (e.g. {"EB_SYS_EMBED_OBJECT":"${var}"})
+ * embeds the members of the json object variable into the object. The template tree is compiled once, so embedding
+ * only splices the members of the variable without parsing the template again.
+ * <p>
+ * The compiled template is immutable, and is safe to be rendered by concurrent threads.
+ */
+public class CompiledTemplate implements Template {
+
+    public static final String EB_SYS_EMBED_OBJECT = "EB_SYS_EMBED_OBJECT";
+
+    private static final String PLACEHOLDER_PREFIX = "${";
+    private static final String PLACEHOLDER_SUFFIX = "}";
+    private static final String DEFAULT_VALUE_DELIMITER = ":-";
+    private static final char ESCAPE = '$';
+
+    /**
+     * The rendering buffer is kept per thread, unless it grows beyond the capacity on a large event
+     */
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private final String outputTemplate;
+
+    private final List<Segment> segments;
+
+    public CompiledTemplate(String outputTemplate) throws EventBridgeException {
+        this.outputTemplate = outputTemplate;
+        SegmentsBuilder builder = new SegmentsBuilder();
+        JsonObject embedTemplate = parseEmbedTemplate(outputTemplate);
+        if (embedTemplate != null) {
+            compileJson(embedTemplate, builder);
+        } else {
+            builder.literal(outputTemplate);
+        }
+        this.segments = builder.build();
+    }
+
+    public String getOutputTemplate() {
+        return outputTemplate;
+    }
+
+    @Override
+    public Data parse(List<Variable> variableList) {
+        Map<String, String> valuesMap = new HashMap<>(variableList.size() * 2);
+        for (Variable variable : variableList) {
+            if (variable.getValue() != null) {
+                valuesMap.put(variable.getName(), variable.defaultStringValue());
+            }
+        }
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        renderSegments(segments, valuesMap, buffer);
+        String output = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return new StringData(output);
+    }
+
+    private static JsonObject parseEmbedTemplate(String outputTemplate) throws EventBridgeException {
+        if (!outputTemplate.contains(EB_SYS_EMBED_OBJECT)) {
+            return null;
+        }
+        JsonElement jsonElement;
+        try {
+            jsonElement = JsonParser.parseString(outputTemplate);
+        } catch (JsonSyntaxException e) {
+            throw new EventBridgeException(TransformErrorCode.InvalidConfig, e, outputTemplate);
+        }
+        return jsonElement.isJsonObject() ? jsonElement.getAsJsonObject() : null;
+    }
+
+    /**
+     * Compiles the json template tree in the compact format of {@link JsonElement#toString()}
+     */
+    private static void compileJson(JsonElement element, SegmentsBuilder builder) {
+        if (!element.isJsonObject()) {
+            builder.literal(element.toString());
+            return;
+        }
+        JsonObject jsonObject = element.getAsJsonObject();
+        JsonElement embedVariable = jsonObject.get(EB_SYS_EMBED_OBJECT);
+        if (embedVariable != null && embedVariable.isJsonPrimitive()) {
+            builder.segment(new EmbedObjectSegment(jsonObject, embedVariable.getAsString()));
+            return;
+        }
+        builder.literal("{");
+        boolean first = true;
+        for (Map.Entry<String, JsonElement> entry : jsonObject.entrySet()) {
+            if (!first) {
+                builder.literal(",");
+            }
+            first = false;
+            builder.literal(new JsonPrimitive(entry.getKey()).toString());
+            builder.literal(":");
+            compileJson(entry.getValue(), builder);
+        }
+        builder.literal("}");
+    }
+
+    private static void renderSegments(List<Segment> segments, Map<String, String> valuesMap, StringBuilder buffer) {
+        for (int i = 0, size = segments.size(); i < size; i++) {
+            segments.get(i)
+                .render(valuesMap, buffer);
+        }
+    }
+
+    private interface Segment {
+        void render(Map<String, String> valuesMap, StringBuilder buffer);
+    }
+
+    private static class LiteralSegment implements Segment {
+        private final String literal;
+
+        LiteralSegment(String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        public void render(Map<String, String> valuesMap, StringBuilder buffer) {
+            buffer.append(literal);
+        }
+    }
+
+    private static class PlaceholderSegment implements Segment {
+        private final String name;
+        private final String defaultValue;
+        private final String placeholder;
+
+        PlaceholderSegment(String name, String defaultValue, String placeholder) {
+            this.name = name;
+            this.defaultValue = defaultValue;
+            this.placeholder = placeholder;
+        }
+
+        @Override
+        public void render(Map<String, String> valuesMap, StringBuilder buffer) {
+            String value = valuesMap.get(name);
+            if (value != null) {
+                buffer.append(value);
+            } else if (defaultValue != null) {
+                buffer.append(defaultValue);
+            } else {
+                buffer.append(placeholder);
+            }
+        }
+    }
+
+    /**
+     * The object embedding the members of a json object variable. The members of the variable are appended after
+     * the members of the template, and replace the template members of the same name in place. The
+     * {@link #EB_SYS_EMBED_OBJECT} member is removed, unless the variable isn't a json object.
+     */
+    private static class EmbedObjectSegment implements Segment {
+        private final String variableName;
+        private final List<String> memberNames = new ArrayList<>();
+        private final Set<String> memberNameSet = new HashSet<>();
+        private final List<List<Segment>> memberSegments = new ArrayList<>();
+
+        EmbedObjectSegment(JsonObject jsonObject, String embedVariable) {
+            this.variableName = removeVariableMark(embedVariable);
+            for (Map.Entry<String, JsonElement> entry : jsonObject.entrySet()) {
+                SegmentsBuilder builder = new SegmentsBuilder();
+                builder.literal(new JsonPrimitive(entry.getKey()).toString());
+                builder.literal(":");
+                compileJson(entry.getValue(), builder);
+                memberNames.add(entry.getKey());
+                memberNameSet.add(entry.getKey());
+                memberSegments.add(builder.build());
+            }
+        }
+
+        @Override
+        public void render(Map<String, String> valuesMap, StringBuilder buffer) {
+            String value = valuesMap.get(variableName);
+            JsonObject embedObject = null;
+            boolean keepEmbedMember = false;
+            if (!Strings.isNullOrEmpty(value)) {
+                JsonElement jsonValue = JsonParser.parseString(value);
+                if (jsonValue.isJsonObject()) {
+                    embedObject = jsonValue.getAsJsonObject();
+                } else {
+                    keepEmbedMember = true;
+                }
+            }
+            buffer.append('{');
+            boolean first = true;
+            for (int i = 0, size = memberNames.size(); i < size; i++) {
+                String memberName = memberNames.get(i);
+                if (EB_SYS_EMBED_OBJECT.equals(memberName) && !keepEmbedMember) {
+                    continue;
+                }
+                if (!first) {
+                    buffer.append(',');
+                }
+                first = false;
+                if (embedObject != null && embedObject.has(memberName)) {
+                    appendMember(memberName, embedObject.get(memberName), buffer);
+                } else {
+                    renderSegments(memberSegments.get(i), valuesMap, buffer);
+                }
+            }
+            if (embedObject != null) {
+                for (Map.Entry<String, JsonElement> entry : embedObject.entrySet()) {
+                    if (memberNameSet.contains(entry.getKey())) {
+                        continue;
+                    }
+                    if (!first) {
+                        buffer.append(',');
+                    }
+                    first = false;
+                    appendMember(entry.getKey(), entry.getValue(), buffer);
+                }
+            }
+            buffer.append('}');
+        }
+
+        private static void appendMember(String name, JsonElement value, StringBuilder buffer) {
+            buffer.append(new JsonPrimitive(name).toString())
+                .append(':')
+                .append(value.toString());
+        }
+
+        private static String removeVariableMark(String key) {
+            if (key.startsWith(PLACEHOLDER_PREFIX) && key.endsWith(PLACEHOLDER_SUFFIX)) {
+                return key.substring(PLACEHOLDER_PREFIX.length(), key.length() - PLACEHOLDER_SUFFIX.length());
+            }
+            return key;
+        }
+    }
+
+    /**
+     * Collects the segments, the literal text is split into literal and placeholder segments when the next
+     * structural segment is added or the segments are built
+     */
+    private static class SegmentsBuilder {
+        private final List<Segment> segments = new ArrayList<>();
+        private final StringBuilder pending = new StringBuilder();
+
+        void literal(String text) {
+            pending.append(text);
+        }
+
+        void segment(Segment segment) {
+            flush();
+            segments.add(segment);
+        }
+
+        List<Segment> build() {
+            flush();
+            return Collections.unmodifiableList(new ArrayList<>(segments));
+        }
+
+        private void flush() {
+            String text = pending.toString();
+            pending.setLength(0);
+            StringBuilder literal = new StringBuilder();
+            int index = 0;
+            while (index < text.length()) {
+                int start = text.indexOf(PLACEHOLDER_PREFIX, index);
+                if (start < 0) {
+                    literal.append(text, index, text.length());
+                    break;
+                }
+                if (start > index && text.charAt(start - 1) == ESCAPE) {
+                    literal.append(text, index, start - 1)
+                        .append(PLACEHOLDER_PREFIX);
+                    index = start + PLACEHOLDER_PREFIX.length();
+                    continue;
+                }
+                int end = text.indexOf(PLACEHOLDER_SUFFIX, start + PLACEHOLDER_PREFIX.length());
+                if (end < 0) {
+                    literal.append(text, index, text.length());
+                    break;
+                }
+                literal.append(text, index, start);
+                addLiteral(literal);
+                String variable = text.substring(start + PLACEHOLDER_PREFIX.length(), end);
+                String placeholder = text.substring(start, end + PLACEHOLDER_SUFFIX.length());
+                int delimiter = variable.indexOf(DEFAULT_VALUE_DELIMITER);
+                if (delimiter < 0) {
+                    segments.add(new PlaceholderSegment(variable, null, placeholder));
+                } else {
+                    segments.add(new PlaceholderSegment(variable.substring(0, delimiter),
+                        variable.substring(delimiter + DEFAULT_VALUE_DELIMITER.length()), placeholder));
+                }
+                index = end + PLACEHOLDER_SUFFIX.length();
+            }
+            addLiteral(literal);
+        }
+
+        private void addLiteral(StringBuilder literal) {
+            if (literal.length() > 0) {
+                segments.add(new LiteralSegment(literal.toString()));
+                literal.setLength(0);
+            }
+        }
+    }
+}
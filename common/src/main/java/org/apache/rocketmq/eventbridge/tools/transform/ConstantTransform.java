@@ -19,7 +19,7 @@ package org.apache.rocketmq.eventbridge.tools.transform;
 
 public class ConstantTransform implements Transform {
 
-    private String constant;
+    private final String constant;
 
     public ConstantTransform(String constant) {
         this.constant = constant;
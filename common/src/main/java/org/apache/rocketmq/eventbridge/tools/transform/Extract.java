@@ -20,6 +20,9 @@ package org.apache.rocketmq.eventbridge.tools.transform;
 import java.util.List;
 import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
 
+/**
+ * The extract is immutable once it is built, and is shared by concurrent threads like {@link Transform}.
+ */
 public interface Extract {
     /**
      * extra variable from  data
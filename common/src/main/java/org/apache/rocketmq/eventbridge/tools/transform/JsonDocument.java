@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.tools.transform;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.ReadContext;
+import com.jayway.jsonpath.spi.json.GsonJsonProvider;
+import com.jayway.jsonpath.spi.json.JsonProvider;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The json document of the event data, decoded and parsed lazily at most once.
+ * <p>
+ * The document isn't cached anywhere, the caller reading the data several times creates it once and passes it to every
+ * reader explicitly, such as the ConnectRecordData of the record shared by the attribute transforms of a record. The
+ * UTF-8 encoded json bytes of the binary data mode are only decoded when the data is read.
+ * <p>
+ * The parsed tree is shared by all readers and must not be modified.
+ */
+public final class JsonDocument {
+
+    private static final Gson GSON = new Gson();
+
+    private static final Configuration CONFIGURATION = Configuration.builder()
+        .jsonProvider(new GsonJsonProvider())
+        .build();
+
+    private static final JsonProvider JSON_PROVIDER = CONFIGURATION.jsonProvider();
+
+    private final Object source;
+
+    private String text;
+
+    private JsonElement json;
+
+    private ReadContext readContext;
+
+    private JsonDocument(Object source) {
+        this.source = source;
+    }
+
+    /**
+     * Returns a new document of the data, nothing is parsed until the data is read
+     *
+     * @param source the data, a json string, UTF-8 encoded json bytes or an object serialized by gson
+     * @return the document of the data
+     */
+    public static JsonDocument of(Object source) {
+        return new JsonDocument(source);
+    }
+
+    public Object getSource() {
+        return source;
+    }
+
+    /**
+     * Tests whether there is no data to parse
+     *
+     * @return true if the source is null, an empty string or empty bytes
+     */
+    public boolean isEmpty() {
+        return source == null || "".equals(source) || (source instanceof byte[] && ((byte[]) source).length == 0);
+    }
+
+    /**
+     * Returns the data in text format, decoding the bytes on the first call
+     *
+     * @return the json string, or null if the source is null
+     */
+    public String getText() {
+        if (text == null && source != null) {
+            if (source instanceof String) {
+                text = (String) source;
+            } else if (source instanceof byte[]) {
+                text = new String((byte[]) source, StandardCharsets.UTF_8);
+            } else {
+                text = GSON.toJson(source);
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Returns the parsed json tree, parsing the source on the first call
+     *
+     * @return the json tree, or null if the source is null
+     * @throws com.jayway.jsonpath.InvalidJsonException if the source is not a valid json string
+     */
+    public JsonElement getJson() {
+        if (json == null && source != null) {
+            if (source instanceof String || source instanceof byte[]) {
+                json = (JsonElement) JSON_PROVIDER.parse(getText());
+            } else if (source instanceof JsonElement) {
+                json = (JsonElement) source;
+            } else {
+                json = GSON.toJsonTree(source);
+            }
+        }
+        return json;
+    }
+
+    /**
+     * Returns the json path context of the parsed json tree
+     *
+     * @return the read context
+     */
+    public ReadContext readContext() {
+        if (readContext == null) {
+            readContext = JsonPath.using(CONFIGURATION)
+                .parse(getJson());
+        }
+        return readContext;
+    }
+}
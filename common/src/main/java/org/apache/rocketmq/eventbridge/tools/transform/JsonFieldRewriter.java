@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.tools.transform;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+
+/**
+ * Rewrites the fields of a json object in one streaming pass, for the INSERT_FIELD, UPDATE_FIELD and DELETE_FIELD
+ * transforms.
+ * <p>
+ * The field paths are compiled into a tree when the transform is built. The rewriter copies the tokens of the
+ * untouched members from the reader to the writer, and only descends into the objects on the field paths, so no tree
+ * of the event is built. The numbers are copied as they are written in the event.
+ * <p>
+ * The rewriter is immutable after the fields are added, and is safe to be used by concurrent threads.
+ */
+class JsonFieldRewriter {
+
+    private static final String FIELD_SPLIT = "\\.";
+
+    /**
+     * The output buffer is kept per thread, unless it grows beyond the capacity on a large event
+     */
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilderWriter> BUFFER = ThreadLocal.withInitial(StringBuilderWriter::new);
+
+    enum Operation {
+        /**
+         * Sets the field, appending it if absent
+         */
+        INSERT,
+        /**
+         * Sets the field, which must be present and not null
+         */
+        UPDATE,
+        /**
+         * Removes the field if present
+         */
+        DELETE
+    }
+
+    private final FieldNode root = new FieldNode();
+
+    /**
+     * Adds the field to rewrite, the fields are applied in the order they are added
+     *
+     * @param fieldPath the path of the field, e.g. "$.data.name"
+     * @param operation the operation on the field
+     * @param value the string value of INSERT and UPDATE, ignored by DELETE
+     * @throws EventBridgeException if the path goes through a field which is set or deleted by a former field
+     */
+    void addField(String fieldPath, Operation operation, String value) throws EventBridgeException {
+        String[] names = fieldPath.split(FIELD_SPLIT);
+        FieldNode node = root;
+        for (int i = 1; i < names.length - 1; i++) {
+            if (node.operations.containsKey(names[i])) {
+                throw new EventBridgeException(TransformErrorCode.InvalidConfig, fieldPath);
+            }
+            node = node.children.computeIfAbsent(names[i], name -> new FieldNode());
+        }
+        String name = names[names.length - 1];
+        FieldOperation former = node.operations.get(name);
+        if (operation == Operation.UPDATE && former != null && former.operation == Operation.DELETE) {
+            throw new EventBridgeException(TransformErrorCode.InvalidConfig, fieldPath);
+        }
+        if (operation == Operation.UPDATE && former != null && former.operation == Operation.INSERT) {
+            // updating a field inserted by a former field always succeeds, a field updated twice must still be present
+            operation = Operation.INSERT;
+        }
+        node.children.remove(name);
+        node.operations.put(name, new FieldOperation(operation, value));
+    }
+
+    /**
+     * Rewrites the fields of the json object
+     *
+     * @param json the json object
+     * @return the rewritten json object
+     * @throws EventBridgeException if the parent of a field isn't an object, an updated field is absent, or the json is
+     * malformed
+     */
+    String rewrite(String json) throws EventBridgeException {
+        StringBuilderWriter buffer = BUFFER.get();
+        buffer.reset();
+        try {
+            JsonReader reader = new JsonReader(new StringReader(json));
+            reader.setLenient(true);
+            JsonWriter writer = new JsonWriter(buffer);
+            writer.setLenient(true);
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                throw new EventBridgeException(TransformErrorCode.InvalidConfig, json);
+            }
+            rewriteObject(reader, writer, root);
+            writer.flush();
+        } catch (IOException | IllegalStateException e) {
+            throw new EventBridgeException(TransformErrorCode.InternalError, e, e.getMessage());
+        }
+        String output = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return output;
+    }
+
+    private static void rewriteObject(JsonReader reader, JsonWriter writer, FieldNode node) throws IOException {
+        Set<String> rewritten = new HashSet<>();
+        reader.beginObject();
+        writer.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            FieldOperation fieldOperation = node.operations.get(name);
+            if (fieldOperation != null) {
+                rewritten.add(name);
+                if (fieldOperation.operation == Operation.UPDATE && reader.peek() == JsonToken.NULL) {
+                    throw new EventBridgeException(TransformErrorCode.InvalidConfig, name);
+                }
+                reader.skipValue();
+                if (fieldOperation.operation != Operation.DELETE) {
+                    writer.name(name)
+                        .value(fieldOperation.value);
+                }
+                continue;
+            }
+            FieldNode child = node.children.get(name);
+            writer.name(name);
+            if (child != null) {
+                if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                    throw new EventBridgeException(TransformErrorCode.InvalidConfig, name);
+                }
+                rewritten.add(name);
+                rewriteObject(reader, writer, child);
+            } else {
+                copyValue(reader, writer);
+            }
+        }
+        reader.endObject();
+        for (Map.Entry<String, FieldOperation> entry : node.operations.entrySet()) {
+            if (rewritten.contains(entry.getKey())) {
+                continue;
+            }
+            if (entry.getValue().operation == Operation.UPDATE) {
+                throw new EventBridgeException(TransformErrorCode.InvalidConfig, entry.getKey());
+            }
+            if (entry.getValue().operation == Operation.INSERT) {
+                writer.name(entry.getKey())
+                    .value(entry.getValue().value);
+            }
+        }
+        for (String name : node.children.keySet()) {
+            if (!rewritten.contains(name)) {
+                throw new EventBridgeException(TransformErrorCode.InvalidConfig, name);
+            }
+        }
+        writer.endObject();
+    }
+
+    /**
+     * Copies the next value token by token without building it
+     */
+    private static void copyValue(JsonReader reader, JsonWriter writer) throws IOException {
+        int depth = 0;
+        do {
+            switch (reader.peek()) {
+                case BEGIN_OBJECT:
+                    reader.beginObject();
+                    writer.beginObject();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    reader.endObject();
+                    writer.endObject();
+                    depth--;
+                    break;
+                case BEGIN_ARRAY:
+                    reader.beginArray();
+                    writer.beginArray();
+                    depth++;
+                    break;
+                case END_ARRAY:
+                    reader.endArray();
+                    writer.endArray();
+                    depth--;
+                    break;
+                case NAME:
+                    writer.name(reader.nextName());
+                    break;
+                case STRING:
+                    writer.value(reader.nextString());
+                    break;
+                case NUMBER:
+                    writer.jsonValue(reader.nextString());
+                    break;
+                case BOOLEAN:
+                    writer.value(reader.nextBoolean());
+                    break;
+                case NULL:
+                    reader.nextNull();
+                    writer.nullValue();
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected token " + reader.peek());
+            }
+        } while (depth > 0);
+    }
+
+    private static class FieldNode {
+        private final Map<String, FieldNode> children = new LinkedHashMap<>();
+        private final Map<String, FieldOperation> operations = new LinkedHashMap<>();
+    }
+
+    private static class FieldOperation {
+        private final Operation operation;
+        private final String value;
+
+        FieldOperation(Operation operation, String value) {
+            this.operation = operation;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A reusable writer on a {@link StringBuilder}, not synchronized like {@link java.io.StringWriter}
+     */
+    private static class StringBuilderWriter extends Writer {
+        private final StringBuilder builder = new StringBuilder(256);
+
+        void reset() {
+            builder.setLength(0);
+        }
+
+        int capacity() {
+            return builder.capacity();
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            builder.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            builder.append(str, off, off + len);
+        }
+
+        @Override
+        public void write(int c) {
+            builder.append((char) c);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.rocketmq.eventbridge.tools.transform;
 import com.google.common.collect.Lists;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.jayway.jsonpath.JsonPath;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -34,7 +36,7 @@ import static org.apache.rocketmq.eventbridge.tools.transform.Transform.DEFAULT_
  */
 public class JsonPathExtract implements Extract {
 
-    protected List<JsonPathElement> extractList = null;
+    protected final List<JsonPathElement> extractList;
 
     public List<JsonPathElement> getExtractList() {
         return extractList;
@@ -53,7 +55,7 @@ public class JsonPathExtract implements Extract {
             jsonPathElementList.add(new JsonPathElement(value.getAsString(), name));
         }
 
-        this.extractList = jsonPathElementList;
+        this.extractList = Collections.unmodifiableList(jsonPathElementList);
     }
 
     @Override
@@ -76,10 +78,11 @@ public class JsonPathExtract implements Extract {
             return Lists.newArrayListWithCapacity(0);
         }
         List<Variable> variableList = Lists.newArrayListWithCapacity(extractList.size());
+        JsonDocument document = JsonDocument.of(stringData.getData());
         for (JsonPathElement element : extractList) {
-            if (JsonPathUtil.isValidAndDefinite(element.getJsonPath())) {
+            if (element.isDefinite()) {
                 variableList.add(new Variable(element.getVariableName(),
-                    JsonPathUtil.readJsonPathValue(stringData.getData(), element.getJsonPath())));
+                    JsonPathUtil.readJsonPathValue(document, element.getCompiledPath())));
             } else {
                 variableList.add(new Variable(element.getVariableName(), element.getJsonPath()));
             }
@@ -89,18 +92,37 @@ public class JsonPathExtract implements Extract {
     }
 
     public class JsonPathElement {
-        private String jsonPath;
+        private final String jsonPath;
 
-        private String variableName;
+        private final String variableName;
+
+        /**
+         * compiled once when the extract is built, null if the json path is not valid and definite
+         */
+        private final JsonPath compiledPath;
 
         public JsonPathElement(String jsonPath) {
-            this.jsonPath = jsonPath;
-            this.variableName = DEFAULT_VALUE_NAME;
+            this(jsonPath, DEFAULT_VALUE_NAME);
         }
 
         public JsonPathElement(String jsonPath, String variableName) {
             this.jsonPath = jsonPath;
             this.variableName = variableName;
+            this.compiledPath = JsonPathUtil.compileIfValidAndDefinite(jsonPath);
+        }
+
+        /**
+         * return true, if the json path is valid and definite, the value is read by the compiled path. Otherwise the
+         * json path is taken as a constant value.
+         *
+         * @return
+         */
+        public boolean isDefinite() {
+            return compiledPath != null;
+        }
+
+        public JsonPath getCompiledPath() {
+            return compiledPath;
         }
 
         public String getJsonPath() {
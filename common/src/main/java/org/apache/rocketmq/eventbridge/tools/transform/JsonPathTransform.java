@@ -25,7 +25,7 @@ public class JsonPathTransform implements Transform {
     /**
      * The extact expr e.g:"{"id":"$.id","name":"$.data.name"}"
      */
-    private Extract jsonPathExtract;
+    private final Extract jsonPathExtract;
 
     public JsonPathTransform(Extract jsonPathExtract) {
         this.jsonPathExtract = jsonPathExtract;
@@ -19,15 +19,12 @@ package org.apache.rocketmq.eventbridge.tools.transform;
 
 import com.google.common.base.Strings;
 import com.google.gson.JsonElement;
-import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
-import com.jayway.jsonpath.ParseContext;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.ReadContext;
 import com.jayway.jsonpath.internal.path.CompiledPath;
 import com.jayway.jsonpath.internal.path.PathCompiler;
-import com.jayway.jsonpath.spi.json.GsonJsonProvider;
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
@@ -41,10 +38,6 @@ public class JsonPathUtil {
     public static final String JSONPATH_PREFIX_WITH_POINT = "$.";
     public static final String JSONPATH_DATA = "$.data";
 
-    private static final ParseContext PARSE_CONTEXT = JsonPath.using(Configuration.builder()
-        .jsonProvider(new GsonJsonProvider())
-        .build());
-
     private static final Logger log = LoggerFactory.getLogger(JsonPathUtil.class);
 
     public static String removeDataOfJsonPath(String jsonPath) {
@@ -123,7 +116,40 @@ public class JsonPathUtil {
         if (Strings.isNullOrEmpty(jsonString) || Strings.isNullOrEmpty(jsonPath)) {
             throw new EventBridgeException(TransformErrorCode.InvalidConfig, jsonPath);
         }
-        ReadContext jsonContext = PARSE_CONTEXT.parse(jsonString);
+        return readJsonPathValue(JsonDocument.of(jsonString), jsonPath);
+    }
+
+    /**
+     * read the json path value from the parsed json document, the document is only parsed once for all json paths
+     *
+     * @param
+     * @return
+     */
+    public static String readJsonPathValue(JsonDocument document, String jsonPath) throws EventBridgeException {
+        if (document.isEmpty() || Strings.isNullOrEmpty(jsonPath)) {
+            throw new EventBridgeException(TransformErrorCode.InvalidConfig, jsonPath);
+        }
+        JsonPath compiledPath = null;
+        try {
+            compiledPath = JsonPath.compile(jsonPath);
+        } catch (InvalidPathException invalidPathException) {
+            log.warn("Invalid json path:" + jsonPath, invalidPathException);
+            return jsonPath;
+        }
+        return readJsonPathValue(document, compiledPath);
+    }
+
+    /**
+     * read the compiled json path value from the parsed json document
+     *
+     * @param
+     * @return
+     */
+    public static String readJsonPathValue(JsonDocument document, JsonPath jsonPath) throws EventBridgeException {
+        if (document.isEmpty()) {
+            throw new EventBridgeException(TransformErrorCode.InvalidConfig, jsonPath.getPath());
+        }
+        ReadContext jsonContext = document.readContext();
         JsonElement element = null;
         try {
             element = jsonContext.read(jsonPath);
@@ -131,8 +157,8 @@ public class JsonPathUtil {
             //return "";
             return null;
         } catch (InvalidPathException invalidPathException) {
-            log.warn("Invalid json path:" + jsonPath, invalidPathException);
-            return jsonPath;
+            log.warn("Invalid json path:" + jsonPath.getPath(), invalidPathException);
+            return jsonPath.getPath();
         }
         if (element.isJsonPrimitive()) {
             return element.getAsString();
@@ -141,6 +167,19 @@ public class JsonPathUtil {
         }
     }
 
+    /**
+     * compile the json path once, so it is not compiled again on every read
+     *
+     * @param jsonPath
+     * @return the compiled json path, or null if the json path is not valid and definite
+     */
+    public static JsonPath compileIfValidAndDefinite(String jsonPath) {
+        if (!JsonPathUtil.isValidAndDefinite(jsonPath)) {
+            return null;
+        }
+        return JsonPath.compile(jsonPath);
+    }
+
     /**
      * return  the length of json path. If it is not valid json path, return -1.
      *
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.tools.transform;
+
+import com.google.gson.JsonObject;
+import java.util.List;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+
+public class RegexTransform implements Transform {
+
+    /**
+     * The regex with named groups, e.g. "(?<level>[A-Z]+) (?<message>.*)"
+     */
+    private final Extract regularExtract;
+
+    /**
+     * format the named groups by the Template, or into a json object of the named groups if null
+     */
+    private final Template template;
+
+    public RegexTransform(Extract regularExtract, Template template) {
+        this.regularExtract = regularExtract;
+        this.template = template;
+    }
+
+    @Override
+    public Data process(Data inputData) throws EventBridgeException {
+        List<Variable> variableList = extract(inputData, regularExtract);
+        if (template != null) {
+            return format(variableList, template);
+        }
+        JsonObject jsonObject = new JsonObject();
+        for (Variable variable : variableList) {
+            if (variable.getValue() != null) {
+                jsonObject.addProperty(variable.getName(), variable.getValue()
+                    .toString());
+            }
+        }
+        if (jsonObject.size() == 0) {
+            return new StringData();
+        }
+        return new StringData(jsonObject.toString());
+    }
+}
@@ -17,6 +17,125 @@
 
 package org.apache.rocketmq.eventbridge.tools.transform;
 
-public class RegularExtract {
+import com.google.common.collect.Lists;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
 
+/**
+ * Extracts the named groups of a regular expression from text data, e.g. the regex
+ * "(?&lt;level&gt;[A-Z]+) (?&lt;message&gt;.*)" extracts the variables "level" and "message" from a log line. The first
+ * match in the text is extracted, and the variables are null if the text doesn't match.
+ * <p>
+ * The pattern is compiled once when the extract is built, and each thread reuses its own {@link Matcher}, so extracting
+ * from an event doesn't allocate more than the extracted values.
+ */
+public class RegularExtract implements Extract {
+
+    private static final Pattern GROUP_NAME = Pattern.compile("[a-zA-Z][a-zA-Z0-9]*");
+
+    private static final String NAMED_GROUP_PREFIX = "(?<";
+
+    private final Pattern pattern;
+
+    private final List<String> groupNames;
+
+    private final ThreadLocal<Matcher> matchers;
+
+    public RegularExtract(String regex) throws EventBridgeException {
+        try {
+            this.pattern = Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            throw new EventBridgeException(TransformErrorCode.InvalidConfig, e, regex);
+        }
+        this.groupNames = Collections.unmodifiableList(parseGroupNames(regex));
+        if (groupNames.isEmpty()) {
+            throw new EventBridgeException(TransformErrorCode.InvalidConfig, regex);
+        }
+        this.matchers = ThreadLocal.withInitial(() -> pattern.matcher(""));
+    }
+
+    public List<String> getGroupNames() {
+        return groupNames;
+    }
+
+    @Override
+    public List<Variable> parse(Data data) throws EventBridgeException {
+        String text = readText(data);
+        List<Variable> variableList = Lists.newArrayListWithCapacity(groupNames.size());
+        if (text == null) {
+            for (String groupName : groupNames) {
+                variableList.add(new Variable(groupName, null));
+            }
+            return variableList;
+        }
+        Matcher matcher = matchers.get();
+        try {
+            boolean found = matcher.reset(text)
+                .find();
+            for (String groupName : groupNames) {
+                variableList.add(new Variable(groupName, found ? matcher.group(groupName) : null));
+            }
+        } finally {
+            // don't retain the text of the event in the thread
+            matcher.reset("");
+        }
+        return variableList;
+    }
+
+    /**
+     * Returns the text to match
+     *
+     * @param data the input data
+     * @return the text, or null if there is no data
+     */
+    protected String readText(Data data) {
+        if (data instanceof StringData) {
+            return ((StringData) data).getData();
+        }
+        if (data instanceof ObjectData) {
+            return JsonDocument.of(((ObjectData) data).getData())
+                .getText();
+        }
+        return data.toString();
+    }
+
+    /**
+     * Parses the names of the named groups in the order of the regex, the escaped characters, the quotations and the
+     * character classes are skipped.
+     */
+    private static List<String> parseGroupNames(String regex) {
+        List<String> groupNames = Lists.newArrayList();
+        boolean inCharClass = false;
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == 'Q') {
+                    int quoteEnd = regex.indexOf("\\E", i + 2);
+                    if (quoteEnd < 0) {
+                        break;
+                    }
+                    i = quoteEnd;
+                }
+                i++;
+            } else if (inCharClass) {
+                inCharClass = c != ']';
+            } else if (c == '[') {
+                inCharClass = true;
+            } else if (regex.startsWith(NAMED_GROUP_PREFIX, i)) {
+                int nameEnd = regex.indexOf('>', i + NAMED_GROUP_PREFIX.length());
+                if (nameEnd > 0) {
+                    String name = regex.substring(i + NAMED_GROUP_PREFIX.length(), nameEnd);
+                    if (GROUP_NAME.matcher(name)
+                        .matches()) {
+                        groupNames.add(name);
+                    }
+                }
+            }
+        }
+        return groupNames;
+    }
 }
@@ -17,15 +17,18 @@
 
 package org.apache.rocketmq.eventbridge.tools.transform;
 
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+
 public class TemplateBuilder {
 
     /**
-     * Build StringSubstitutorTemplate
+     * Build CompiledTemplate
      *
      * @param template
      * @return
+     * @throws EventBridgeException
      */
-    public static StringSubstitutorTemplate stringSubstitutorTemplate(String template) {
-        return new StringSubstitutorTemplate(template);
+    public static CompiledTemplate compiledTemplate(String template) throws EventBridgeException {
+        return new CompiledTemplate(template);
     }
 }
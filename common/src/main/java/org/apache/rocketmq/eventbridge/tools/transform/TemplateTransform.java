@@ -25,12 +25,12 @@ public class TemplateTransform implements Transform {
     /**
      * The extact expr e.g:"{"id":"$.id","name":"$.data.name"}"
      */
-    private Extract jsonPathExtract;
+    private final Extract jsonPathExtract;
 
     /**
      * format the data by the Template
      */
-    private Template template;
+    private final Template template;
 
     public TemplateTransform(Extract jsonPathExtract, Template template) {
         this.jsonPathExtract = jsonPathExtract;
@@ -21,6 +21,10 @@ import com.google.common.collect.Lists;
 import java.util.List;
 import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
 
+/**
+ * A transform is immutable once it is built, so the same instance can process the events of a rule from concurrent
+ * threads. Any state needed by a single event lives in the local variables of {@link #process(Data)}.
+ */
 public interface Transform {
 
     String DEFAULT_VALUE_NAME = "SYS_DEFAULT";
@@ -17,6 +17,7 @@
 
 package org.apache.rocketmq.eventbridge.tools.transform;
 
+import com.google.common.base.Strings;
 import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
 
 public class TransformBuilder {
@@ -38,6 +39,8 @@ public class TransformBuilder {
                 return buildDeleteFieldTransform(transformParam.getValue());
             case UPDATE_FIELD:
                 return buildUpdateFieldTransform(transformParam.getValue());
+            case REGEX:
+                return buildRegexTransform(transformParam.getValue(), transformParam.getTemplate());
             default:
                 throw new EventBridgeException(TransformErrorCode.InvalidConfig);
         }
@@ -81,10 +84,24 @@ public class TransformBuilder {
      */
     public static Transform buildTemplateTransForm(String extractJson, String template) throws EventBridgeException {
         JsonPathExtract jsonPathExtract = new JsonPathExtract(extractJson);
-        Template templateEntry = TemplateBuilder.stringSubstitutorTemplate(template);
+        Template templateEntry = TemplateBuilder.compiledTemplate(template);
         return new TemplateTransform(jsonPathExtract, templateEntry);
     }
 
+    /**
+     * build RegexTransform
+     *
+     * @param regex
+     * @param template
+     * @return
+     * @throws EventBridgeException
+     */
+    public static Transform buildRegexTransform(String regex, String template) throws EventBridgeException {
+        RegularExtract regularExtract = new RegularExtract(regex);
+        Template templateEntry = Strings.isNullOrEmpty(template) ? null : TemplateBuilder.compiledTemplate(template);
+        return new RegexTransform(regularExtract, templateEntry);
+    }
+
     /**
      * build ConstantTransform
      *
@@ -45,6 +45,10 @@ public enum TransformEnum {
     /**
      * content template, default support velocity template:https://velocity.apache.org/
      */
-    TEMPLATE;
+    TEMPLATE,
+    /**
+     * Regex named groups of text data, formatted by the template if any, ref:java.util.regex.Pattern
+     */
+    REGEX;
 
 }
@@ -49,7 +49,14 @@ public class TransformValidator {
                 ObjectUtil.checkNotNullOrEmpty(new EventBridgeException(TransformErrorCode.InvalidConfig, value),
                     new JsonPathExtract(value).getExtractList());
                 ObjectUtil.checkNotNullOrEmpty(new EventBridgeException(TransformErrorCode.InvalidConfig, value),
-                    new StringSubstitutorTemplate(template));
+                    TemplateBuilder.compiledTemplate(template));
+                break;
+            case REGEX:
+                ObjectUtil.checkNotNullOrEmpty(new EventBridgeException(TransformErrorCode.InvalidConfig, value), value);
+                new RegularExtract(value);
+                if (template != null) {
+                    TemplateBuilder.compiledTemplate(template);
+                }
                 break;
             default:
                 break;
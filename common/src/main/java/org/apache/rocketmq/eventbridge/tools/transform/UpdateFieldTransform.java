@@ -17,54 +17,27 @@
 
 package org.apache.rocketmq.eventbridge.tools.transform;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.reflect.TypeToken;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import net.minidev.json.JSONObject;
 import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
 
 public class UpdateFieldTransform implements Transform {
 
-    List<Variable> fieldList = new ArrayList<>();
+    private final JsonFieldRewriter rewriter = new JsonFieldRewriter();
 
     public UpdateFieldTransform(String extractJsonList) throws EventBridgeException {
         JsonElement jsonElement = JsonUtil.parseJsonElement(extractJsonList);
         for (JsonElement element : jsonElement.getAsJsonArray()) {
-            fieldList.add(new Variable(element.getAsJsonObject()
+            rewriter.addField(element.getAsJsonObject()
                 .getAsJsonPrimitive(TransformFieldEnum.FIELD)
-                .getAsString(), element.getAsJsonObject()
-                .getAsJsonPrimitive(TransformFieldEnum.VALUE)));
-
+                .getAsString(), JsonFieldRewriter.Operation.UPDATE, element.getAsJsonObject()
+                .getAsJsonPrimitive(TransformFieldEnum.VALUE)
+                .getAsString());
         }
     }
 
     @Override
     public Data process(Data inputData) throws EventBridgeException {
-        Map<String, Object> dataMap = new Gson().fromJson(inputData.toString(),
-            new TypeToken<Map<String, Object>>() {
-            }.getType());
-        for (Variable v : fieldList) {
-            String[] dataList = v.getName()
-                .split("\\.");
-            Map<String, Object> tempMap = dataMap;
-            for (int i = 1; i < dataList.length - 1; i++) {
-                Object temp = tempMap.get(dataList[i]);
-                if (!(temp instanceof Map)) {
-                    throw new EventBridgeException(TransformErrorCode.InvalidConfig);
-                }
-                tempMap = (Map<String, Object>) temp;
-            }
-            if (tempMap.get(dataList[dataList.length - 1]) == null) {
-                throw new EventBridgeException(TransformErrorCode.InvalidConfig);
-            }
-            tempMap.put(dataList[dataList.length - 1], ((JsonPrimitive) v.getValue()).getAsString());
-        }
-        String jsonString = JSONObject.toJSONString(dataMap);
-        return new StringData(jsonString);
+        return new StringData(rewriter.rewrite(inputData.toString()));
     }
 
 }
@@ -18,6 +18,8 @@
 package org.apache.rocketmq.eventbridge.tools.pattern;
 
 import com.google.common.collect.Sets;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -450,4 +452,67 @@ public class PatternEvaluatorTest {
 
         assertThat(evaluator.evaluateData(jsonData)).isTrue();
     }
+
+    @Test
+    public void evaluateSpecAttrWithVerdictCache() {
+        String pattern = "{\"source\":[\"acs.ecs\"],\"type\":[{\"prefix\": \"ecs:\"}]}";
+        PatternEvaluator evaluator = PatternEvaluatorBuilder.build(pattern);
+
+        Map<String, String> specMap = new HashMap<>();
+        specMap.put("source", "acs.ecs");
+        specMap.put("type", "ecs:Started");
+        specMap.put("id", "id-1");
+        assertThat(evaluator.evaluateSpecAttr(JsonUtil.convertToJsonElement(specMap))).isTrue();
+        // Attributes not referenced by the pattern aren't part of the fingerprint
+        specMap.put("id", "id-2");
+        assertThat(evaluator.evaluateSpecAttr(JsonUtil.convertToJsonElement(specMap))).isTrue();
+        assertThat(evaluator.evaluateSpecAttr(specMap::get)).isTrue();
+        assertThat(evaluator.getSpecAttrVerdictCache()
+            .size()).isEqualTo(1);
+
+        specMap.put("type", "fc:Started");
+        assertThat(evaluator.evaluateSpecAttr(specMap::get)).isFalse();
+        assertThat(evaluator.evaluateSpecAttr(JsonUtil.convertToJsonElement(specMap))).isFalse();
+        specMap.remove("type");
+        assertThat(evaluator.evaluateSpecAttr(specMap::get)).isFalse();
+        assertThat(evaluator.getSpecAttrVerdictCache()
+            .size()).isEqualTo(3);
+    }
+
+    @Test
+    public void evaluateSpecAttrBypassVerdictCache() {
+        String pattern = "{\"subject\":[\"300\"]}";
+        PatternEvaluator evaluator = PatternEvaluatorBuilder.build(pattern);
+
+        Map<String, JsonElement> specAttrs = new HashMap<>();
+        specAttrs.put("subject", new JsonPrimitive(300));
+        assertThat(evaluator.evaluateSpecAttr(specAttrs)).isTrue();
+        specAttrs.put("subject", new JsonPrimitive(3.0e2));
+        assertThat(evaluator.evaluateSpecAttr(specAttrs)).isFalse();
+        assertThat(evaluator.getSpecAttrVerdictCache()
+            .size()).isEqualTo(0);
+    }
+
+    @Test
+    public void evaluateSpecAttrWithSelectivityOrder() {
+        String pattern = "{\"source\":[\"acs.ecs\"],\"type\":[\"ecs:Started\"]}";
+        PatternEvaluator evaluator = PatternEvaluatorBuilder.build(pattern);
+        PatternEntryOrder entryOrder = evaluator.getSpecAttrVerdictCache()
+            .getEntryOrder();
+        assertThat(entryOrder.currentOrder()[0].getPatternName()).isEqualTo("source");
+
+        Map<String, String> specMap = new HashMap<>();
+        specMap.put("source", "acs.ecs");
+        for (int i = 0; i < PatternEntryOrder.REORDER_INTERVAL; i++) {
+            specMap.put("type", "ecs:Stopped-" + i);
+            assertThat(evaluator.evaluateSpecAttr(specMap::get)).isFalse();
+        }
+        // The type entry rejects all events, so it's evaluated first
+        assertThat(entryOrder.currentOrder()[0].getPatternName()).isEqualTo("type");
+
+        specMap.put("type", "ecs:Started");
+        assertThat(evaluator.evaluateSpecAttr(specMap::get)).isTrue();
+        specMap.put("source", "acs.fc");
+        assertThat(evaluator.evaluateSpecAttr(specMap::get)).isFalse();
+    }
 }
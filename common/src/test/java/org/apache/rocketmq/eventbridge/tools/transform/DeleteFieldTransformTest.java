@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import net.minidev.json.JSONObject;
 import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class DeleteFieldTransformTest {
@@ -68,4 +69,11 @@ public class DeleteFieldTransformTest {
         System.out.println(jsonString);
         System.out.println(System.currentTimeMillis());
     }
+
+    @Test
+    public void processByTransformTest() {
+        Transform transform = new DeleteFieldTransform("[{\"field\":\"$.number\"},{\"field\":\"$.data.tag\"}]");
+        Data output = transform.process(new StringData("{\"text\":\"100\",\"number\":100,\"data\":{\"tag\":\"123\"}}"));
+        Assert.assertEquals("{\"text\":\"100\",\"data\":{}}", output.toString());
+    }
 }
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import net.minidev.json.JSONObject;
 import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class InsertFieldTransformTest {
@@ -71,4 +72,14 @@ public class InsertFieldTransformTest {
         System.out.println(jsonString);
         System.out.println(System.currentTimeMillis());
     }
+
+    @Test
+    public void processByTransformTest() {
+        Transform transform = new InsertFieldTransform(
+            "[{\"field\":\"$.filter_tag\",\"value\":\"123\"}, {\"field\":\"$.data.filter_tag\",\"value\":\"666\"}]");
+        Data output = transform.process(new StringData("{\"text\":\"100\",\"number\":100,\"data\":{\"tag\":\"123\"}}"));
+        Assert.assertEquals(
+            "{\"text\":\"100\",\"number\":100,\"data\":{\"tag\":\"123\",\"filter_tag\":\"666\"},\"filter_tag\":\"123\"}",
+            output.toString());
+    }
 }
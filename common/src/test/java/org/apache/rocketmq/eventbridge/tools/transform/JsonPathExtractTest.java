@@ -71,4 +71,22 @@ public class JsonPathExtractTest {
             .size());
     }
 
+    @Test
+    public void testPathCompiledOnce() throws EventBridgeException {
+        JsonPathExtract extract = new JsonPathExtract("{\"title\":\"$.data.title\",\"constant\":\"$.data[*]\"}");
+        Assert.assertTrue(extract.getExtractList()
+            .get(0)
+            .isDefinite());
+        Assert.assertEquals("$['data']['title']", extract.getExtractList()
+            .get(0)
+            .getCompiledPath()
+            .getPath());
+        Assert.assertFalse(extract.getExtractList()
+            .get(1)
+            .isDefinite());
+        Assert.assertNull(extract.getExtractList()
+            .get(1)
+            .getCompiledPath());
+    }
+
 }
@@ -17,6 +17,8 @@
 
 package org.apache.rocketmq.eventbridge.tools.transform;
 
+import com.google.gson.JsonElement;
+import java.nio.charset.StandardCharsets;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -26,4 +28,26 @@ public class JsonPathUtilTest {
     public void removeDataOfJsonPath() {
         Assert.assertEquals("$.body", JsonPathUtil.removeDataOfJsonPath("$.data.body"));
     }
+
+    @Test
+    public void readJsonPathValueWithSharedDocument() {
+        String data = "{\"name\":\"eventbridge\",\"detail\":{\"region\":\"hangzhou\"}}";
+        JsonDocument document = JsonDocument.of(data);
+        Assert.assertEquals("eventbridge", JsonPathUtil.readJsonPathValue(document, "$.name"));
+        JsonElement json = document.getJson();
+        Assert.assertEquals("hangzhou", JsonPathUtil.readJsonPathValue(document, "$.detail.region"));
+        Assert.assertSame(json, document.getJson());
+        Assert.assertNotSame(document, JsonDocument.of(data));
+        Assert.assertEquals("eventbridge", JsonPathUtil.readJsonPathValue(data, "$.name"));
+    }
+
+    @Test
+    public void readJsonPathValueWithBinaryDocument() {
+        byte[] data = "{\"name\":\"eventbridge\"}".getBytes(StandardCharsets.UTF_8);
+        JsonDocument document = JsonDocument.of(data);
+        Assert.assertEquals("{\"name\":\"eventbridge\"}", document.getText());
+        Assert.assertEquals("eventbridge", JsonPathUtil.readJsonPathValue(document, "$.name"));
+        Assert.assertTrue(JsonDocument.of(new byte[0])
+            .isEmpty());
+    }
 }
\ No newline at end of file
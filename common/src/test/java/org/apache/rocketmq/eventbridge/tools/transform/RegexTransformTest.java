@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.tools.transform;
+
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RegexTransformTest extends BaseTransformTest {
+
+    private static final String LOG_LINE = "2023-04-01 12:00:00 ERROR [order-service] Failed to create order 1001";
+
+    private static final String LOG_REGEX = "(?<time>\\S+ \\S+) (?<level>[A-Z]+) \\[(?<service>[^\\]]+)\\] (?<message>.*)";
+
+    @Test
+    public void testTransformRegex_Template() throws EventBridgeException {
+        Transform transform = TransformBuilder.buildTransform(
+            new TransformParam(TransformEnum.REGEX, LOG_REGEX, "${service}:${level}:${message}"));
+        Data output = transform.process(new StringData(LOG_LINE, StringType.TEXT));
+        Assert.assertEquals("order-service:ERROR:Failed to create order 1001", output.toString());
+    }
+
+    @Test
+    public void testTransformRegex_JsonObject() throws EventBridgeException {
+        Transform transform = TransformBuilder.buildTransform(new TransformParam(TransformEnum.REGEX, LOG_REGEX));
+        Data output = transform.process(new StringData(LOG_LINE, StringType.TEXT));
+        Assert.assertEquals("{\"time\":\"2023-04-01 12:00:00\",\"level\":\"ERROR\",\"service\":\"order-service\","
+            + "\"message\":\"Failed to create order 1001\"}", output.toString());
+    }
+
+    @Test
+    public void testTransformRegex_NotMatch() throws EventBridgeException {
+        Transform transform = TransformBuilder.buildTransform(
+            new TransformParam(TransformEnum.REGEX, LOG_REGEX, "${level:-INFO}"));
+        Assert.assertEquals("INFO", transform.process(new StringData("not a log line", StringType.TEXT))
+            .toString());
+        Transform jsonTransform = TransformBuilder.buildTransform(new TransformParam(TransformEnum.REGEX, LOG_REGEX));
+        Assert.assertNull(jsonTransform.process(new StringData("not a log line", StringType.TEXT))
+            .toString());
+    }
+
+    @Test
+    public void testGroupNames() throws EventBridgeException {
+        RegularExtract regularExtract = new RegularExtract(
+            "(?<a>x)\\(?<b>y\\)[(?<c>z)](?<=w)(?<!v)\\Q(?<d>\\E(?:u)(?<e1>t)");
+        Assert.assertArrayEquals(new String[] {"a", "e1"}, regularExtract.getGroupNames()
+            .toArray());
+    }
+
+    @Test(expected = EventBridgeException.class)
+    public void testInvalidRegex() throws EventBridgeException {
+        TransformValidator.validateTransform(TransformEnum.REGEX, null, "(?<level>[A-Z+");
+    }
+
+    @Test(expected = EventBridgeException.class)
+    public void testRegexWithoutNamedGroup() throws EventBridgeException {
+        TransformBuilder.buildTransform(new TransformParam(TransformEnum.REGEX, "[A-Z]+"));
+    }
+}
@@ -91,4 +91,26 @@ public class TemplateTransformFromJsonStringTest extends BaseTransformTest {
             output.toString());
     }
 
+    @Test
+    public void testTransformTemplate_EmbedObject() throws EventBridgeException {
+        String extractJson = "{\"detail\":\"$.data.array[0]\",\"text\":\"$.data.text\"}";
+        String template = "{\"EB_SYS_EMBED_OBJECT\":\"${detail}\",\"text\":\"${text}\"}";
+        Transform transform = TransformBuilder.buildTemplateTransForm(extractJson, template);
+        Assert.assertEquals("{\"text\":\"100\",\"level2-1\":\"level2-1\"}",
+            transform.process(new StringData(JSON_EVENT))
+                .toString());
+        Assert.assertEquals("{\"text\":\"100\",\"level2-1\":\"level2-1\"}",
+            transform.process(new StringData(JSON_EVENT))
+                .toString());
+    }
+
+    @Test
+    public void testTransformTemplate_DefaultValue() throws EventBridgeException {
+        String extractJson = "{\"text\":\"$.data.text\",\"number\":\"$.data.empty\"}";
+        String template = "The ${text} = ${number:-0}, $${text}";
+        Transform transform = TransformBuilder.buildTemplateTransForm(extractJson, template);
+        Data output = transform.process(new StringData(JSON_EVENT));
+        Assert.assertEquals("The 100 = 0, ${text}", output.toString());
+    }
+
 }
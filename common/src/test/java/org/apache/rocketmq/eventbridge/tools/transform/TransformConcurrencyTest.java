@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.tools.transform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Processes distinct events by the same transform from many threads, and compares the outputs with a sequential run.
+ */
+public class TransformConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 2000;
+    private static final int EVENTS = 16;
+
+    private ExecutorService executorService;
+
+    @Before
+    public void before() {
+        executorService = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @After
+    public void after() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testJsonPathTransform() throws Exception {
+        assertConcurrentOutputs(TransformBuilder.buildJsonTransform("$.data.name"));
+    }
+
+    @Test
+    public void testTemplateTransform() throws Exception {
+        assertConcurrentOutputs(TransformBuilder.buildTemplateTransForm(
+            "{\"name\":\"$.data.name\",\"index\":\"$.data.index\",\"source\":\"$.source\"}",
+            "The ${name} of ${source} is ${index}, ${absent:-none}"));
+    }
+
+    @Test
+    public void testEmbedObjectTemplateTransform() throws Exception {
+        assertConcurrentOutputs(TransformBuilder.buildTemplateTransForm(
+            "{\"detail\":\"$.data.detail\",\"name\":\"$.data.name\"}",
+            "{\"EB_SYS_EMBED_OBJECT\":\"${detail}\",\"name\":\"${name}\",\"nested\":{\"EB_SYS_EMBED_OBJECT\":\"${detail}\"}}"));
+    }
+
+    @Test
+    public void testFieldTransforms() throws Exception {
+        assertConcurrentOutputs(TransformBuilder.buildInsertFieldTransform(
+            "[{\"field\":\"$.data.tag\",\"value\":\"tag\"},{\"field\":\"$.tag\",\"value\":\"tag\"}]"));
+        assertConcurrentOutputs(TransformBuilder.buildUpdateFieldTransform(
+            "[{\"field\":\"$.data.name\",\"value\":\"updated\"}]"));
+        assertConcurrentOutputs(TransformBuilder.buildDeleteFieldTransform(
+            "[{\"field\":\"$.data.detail\"},{\"field\":\"$.source\"}]"));
+    }
+
+    @Test
+    public void testConstantAndOriginalTransform() throws Exception {
+        assertConcurrentOutputs(TransformBuilder.buildConstantTransform("constant"));
+        assertConcurrentOutputs(TransformBuilder.buildOriginalTransform());
+    }
+
+    private void assertConcurrentOutputs(Transform transform) throws Exception {
+        List<String> events = new ArrayList<>(EVENTS);
+        List<String> expectedOutputs = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            String event = buildEvent(i);
+            events.add(event);
+            expectedOutputs.add(process(transform, event));
+        }
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>(THREADS);
+        for (int thread = 0; thread < THREADS; thread++) {
+            final int offset = thread;
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                int mismatches = 0;
+                for (int i = 0; i < ITERATIONS; i++) {
+                    int index = (i + offset) % EVENTS;
+                    if (!expectedOutputs.get(index)
+                        .equals(process(transform, events.get(index)))) {
+                        mismatches++;
+                    }
+                }
+                return mismatches;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<Integer> future : futures) {
+            Assert.assertEquals(Integer.valueOf(0), future.get(60, TimeUnit.SECONDS));
+        }
+    }
+
+    private static String process(Transform transform, String event) throws EventBridgeException {
+        return String.valueOf(transform.process(new StringData(event)));
+    }
+
+    private static String buildEvent(int index) {
+        return "{\"source\":\"source-" + index + "\",\"data\":{\"name\":\"name-" + index + "\",\"index\":" + index
+            + ",\"detail\":{\"region\":\"region-" + index + "\",\"size\":" + index * 1024 + "}}}";
+    }
+}
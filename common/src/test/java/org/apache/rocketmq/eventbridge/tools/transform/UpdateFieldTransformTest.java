@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import net.minidev.json.JSONObject;
 import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class UpdateFieldTransformTest {
@@ -74,4 +75,32 @@ public class UpdateFieldTransformTest {
         System.out.println(jsonString);
         System.out.println(System.currentTimeMillis());
     }
+
+    @Test
+    public void processByTransformTest() {
+        Transform transform = new UpdateFieldTransform("[{\"field\":\"$.data.tag\",\"value\":\"666\"}]");
+        Data output = transform.process(new StringData("{\"text\":\"100\",\"number\":100,\"data\":{\"tag\":\"123\"}}"));
+        Assert.assertEquals("{\"text\":\"100\",\"number\":100,\"data\":{\"tag\":\"666\"}}", output.toString());
+    }
+
+    @Test(expected = EventBridgeException.class)
+    public void processAbsentFieldTest() {
+        Transform transform = new UpdateFieldTransform("[{\"field\":\"$.data.absent\",\"value\":\"666\"}]");
+        transform.process(new StringData("{\"text\":\"100\",\"data\":{\"tag\":\"123\"}}"));
+    }
+
+    @Test(expected = EventBridgeException.class)
+    public void processAbsentFieldUpdatedTwiceTest() {
+        Transform transform = new UpdateFieldTransform("[{\"field\":\"$.data.absent\",\"value\":\"666\"},"
+            + "{\"field\":\"$.data.absent\",\"value\":\"888\"}]");
+        transform.process(new StringData("{\"text\":\"100\",\"data\":{\"tag\":\"123\"}}"));
+    }
+
+    @Test
+    public void processFieldUpdatedTwiceTest() {
+        Transform transform = new UpdateFieldTransform("[{\"field\":\"$.data.tag\",\"value\":\"666\"},"
+            + "{\"field\":\"$.data.tag\",\"value\":\"888\"}]");
+        Data output = transform.process(new StringData("{\"text\":\"100\",\"data\":{\"tag\":\"123\"}}"));
+        Assert.assertEquals("{\"text\":\"100\",\"data\":{\"tag\":\"888\"}}", output.toString());
+    }
 }
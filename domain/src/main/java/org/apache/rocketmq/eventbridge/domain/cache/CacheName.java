@@ -20,4 +20,5 @@ package org.apache.rocketmq.eventbridge.domain.cache;
 
 public class CacheName {
     public static final String EVENT_SOURCE = "event_source";
+    public static final String EVENT_BUS_EXIST = "event_bus_exist";
 }
@@ -38,6 +38,7 @@ public class EventBridgeConstants {
     public static final int EVENT_RULE_NAME_MIN_LENGTH = 1;
     public static final int EVENT_RULE_COUNT_LIMIT = 10;
     public static final String RESERVED_EVENT_RULE_PREFIX = "eventbridge-reserved-";
+    public static final int EVENT_PATTERN_TEST_EVENTS_LIMIT = 5000;
 
     //event source
     public static final int EVENT_SOURCE_NAME_MAX_LENGTH = 127;
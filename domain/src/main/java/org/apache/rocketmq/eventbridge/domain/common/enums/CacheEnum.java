@@ -19,7 +19,8 @@ package org.apache.rocketmq.eventbridge.domain.common.enums;
 
 
 public enum CacheEnum {
-    event_source(60, 500);
+    event_source(60, 500),
+    event_bus_exist(10, 10000);
 
     private int maxSize;
     private int ttl;
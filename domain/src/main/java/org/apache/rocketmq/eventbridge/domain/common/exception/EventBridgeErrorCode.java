@@ -32,6 +32,12 @@ public enum EventBridgeErrorCode implements BaseErrorCode {
         "The putEvents request failed the webhook security check for {0}. " +
             "Event source configuration is {1}, the parameter in the request is {2}."),
     JSON_ATTRIBUTE_INVALID(409, "JsonAttributeInvalid", "The Json attribute is invalid"),
+    PutEventsRequestBodyTooLarge(413, "PutEventsRequestBodyTooLarge",
+        "The put events request body exceeds the limit size [{0}] bytes."),
+    PutEventsRequestThrottled(429, "PutEventsRequestThrottled",
+        "The put events request to event bus [{0}] exceeds the limit of [{1}] events per second."),
+    PutEventTimeout(504, "PutEventTimeout",
+        "The result of putting the event [{0}] is unknown after [{1}] milliseconds, the event may have been stored."),
 
     //Event Bus
     EventBusNotExist(409, "EventBusNotExist", "The event bus [{0}] not existed!"),
@@ -86,6 +92,10 @@ public enum EventBridgeErrorCode implements BaseErrorCode {
     EventRuleCountExceedLimit(409, "EventRuleCountExceedLimit",
         "The current count of event rule is [{0}], which will exceed the limit quota [{1}]"),
     EventRuleAlreadyExist(409, "EventRuleAlreadyExist", "The event rule [{0}] of event bus [{1}] already existed!"),
+    EventPatternTestEventsExceedLimit(409, "EventPatternTestEventsExceedLimit",
+        "The count of test events is [{0}], which exceeds the limit [{1}]."),
+    EventPatternTestEventInvalid(409, "EventPatternTestEventInvalid",
+        "The test event is invalid, which should be an event in CloudEvents json format."),
 
     //Connection
     ConnectionBoundApiDestination(409, "ConnectionBoundApiDestination", "The Connection [{0}] has bound API Destination, deletion is not allowed."),
@@ -17,6 +17,8 @@
 package org.apache.rocketmq.eventbridge.domain.model.bus;
 
 import java.util.List;
+import org.apache.rocketmq.eventbridge.domain.cache.CacheManager;
+import org.apache.rocketmq.eventbridge.domain.cache.GeneralKeyGenerator;
 import org.apache.rocketmq.eventbridge.domain.common.exception.EventBridgeErrorCode;
 import org.apache.rocketmq.eventbridge.domain.model.AbstractResourceService;
 import org.apache.rocketmq.eventbridge.domain.model.PaginationResult;
@@ -24,10 +26,15 @@ import org.apache.rocketmq.eventbridge.domain.repository.EventBusRepository;
 import org.apache.rocketmq.eventbridge.domain.storage.EventDataRepository;
 import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
 import org.apache.rocketmq.eventbridge.tools.NextTokenUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import static org.apache.rocketmq.eventbridge.domain.cache.CacheName.EVENT_BUS_EXIST;
 import static org.apache.rocketmq.eventbridge.domain.common.EventBridgeConstants.EVENT_BUS_NAME_MAX_LENGTH;
 import static org.apache.rocketmq.eventbridge.domain.common.EventBridgeConstants.EVENT_BUS_NAME_MIN_LENGTH;
 import static org.apache.rocketmq.eventbridge.domain.common.EventBridgeConstants.EVENT_RULE_COUNT_LIMIT;
@@ -44,6 +51,9 @@ public class EventBusService extends AbstractResourceService {
     protected final EventBusRepository eventBusRepository;
     protected final EventDataRepository eventDataRepository;
 
+    @Autowired
+    CacheManager cacheManager;
+
     public EventBusService(EventBusRepository eventBusRepository, EventDataRepository eventDataRepository) {
         this.eventBusRepository = eventBusRepository;
         this.eventDataRepository = eventDataRepository;
@@ -60,6 +70,8 @@ public class EventBusService extends AbstractResourceService {
             isSucceed = eventBusRepository.createEventBus(accountId, eventBusName, description);
         } catch (DuplicateKeyException e) {
             throw new EventBridgeException(EventBusAlreadyExist, eventBusName);
+        } finally {
+            evictExist(accountId, eventBusName);
         }
         if (!isSucceed && eventBusRepository.getEventBus(accountId, eventBusName) != null) {
             throw new EventBridgeException(EventBusAlreadyExist, eventBusName);
@@ -91,14 +103,66 @@ public class EventBusService extends AbstractResourceService {
 
     public boolean deleteEventBus(String accountId, String eventBusName) {
         this.checkExist(accountId, eventBusName);
-        boolean isSucceed = this.eventBusRepository.deleteEventBus(accountId, eventBusName);
+        boolean isSucceed;
+        try {
+            isSucceed = this.eventBusRepository.deleteEventBus(accountId, eventBusName);
+        } finally {
+            evictExist(accountId, eventBusName);
+        }
         return isSucceed && this.eventDataRepository.deleteEventBusPersistence(accountId, eventBusName);
     }
 
     public void checkExist(String accountId, String eventBusName) {
-        if (eventBusRepository.getEventBus(accountId, eventBusName) == null) {
+        if (!isExist(accountId, eventBusName)) {
             throw new EventBridgeException(EventBridgeErrorCode.EventBusNotExist, eventBusName);
         }
     }
 
+    /**
+     * Whether the event bus exists. The result is cached for a few seconds, the absent event buses included, so putting
+     * events doesn't query the repository for every event. The event bus created or deleted by this node is evicted at
+     * once and again after the transaction completes, the others are seen when the cached result expires.
+     *
+     * @param accountId
+     * @param eventBusName
+     * @return
+     */
+    public boolean isExist(String accountId, String eventBusName) {
+        Cache existCache = cacheManager == null ? null : cacheManager.getCache(EVENT_BUS_EXIST);
+        if (existCache == null) {
+            return eventBusRepository.getEventBus(accountId, eventBusName) != null;
+        }
+        Object key = GeneralKeyGenerator.generateKey(accountId, eventBusName);
+        Boolean exist = existCache.get(key, Boolean.class);
+        if (exist == null) {
+            exist = eventBusRepository.getEventBus(accountId, eventBusName) != null;
+            existCache.put(key, exist);
+        }
+        return exist;
+    }
+
+    /**
+     * Evicts the cached existence of the event bus. Within a transaction, a put reading the event bus before the commit
+     * still sees the former row and caches it, so the entry is evicted again once the transaction completes.
+     *
+     * @param accountId
+     * @param eventBusName
+     */
+    private void evictExist(String accountId, String eventBusName) {
+        Cache existCache = cacheManager == null ? null : cacheManager.getCache(EVENT_BUS_EXIST);
+        if (existCache == null) {
+            return;
+        }
+        Object key = GeneralKeyGenerator.generateKey(accountId, eventBusName);
+        existCache.evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    existCache.evict(key);
+                }
+            });
+        }
+    }
+
 }
\ No newline at end of file
@@ -17,6 +17,9 @@
 
 package org.apache.rocketmq.eventbridge.domain.model.data;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import org.apache.rocketmq.eventbridge.domain.model.bus.EventBusService;
 import org.apache.rocketmq.eventbridge.domain.storage.EventDataRepository;
 import org.apache.rocketmq.eventbridge.event.EventBridgeEvent;
@@ -39,4 +42,31 @@ public class EventDataService {
         eventBusService.checkExist(accountId, eventBusName);
         eventDataRepository.putEvent(accountId, eventBusName, event, putEventCallback);
     }
+
+    /**
+     * Checks the event buses of a batch of events, once per event bus
+     *
+     * @param accountId
+     * @param events
+     */
+    public void checkEventBusesExist(String accountId, List<EventBridgeEvent> events) {
+        Set<String> checkedEventBusNames = new HashSet<>();
+        for (EventBridgeEvent event : events) {
+            String eventBusName = EventTool.getEventBus(event);
+            if (checkedEventBusNames.add(eventBusName)) {
+                eventBusService.checkExist(accountId, eventBusName);
+            }
+        }
+    }
+
+    /**
+     * Puts the event whose event bus is checked by {@link #checkEventBusesExist(String, List)}
+     *
+     * @param accountId
+     * @param event
+     * @param putEventCallback
+     */
+    public void putCheckedEvent(String accountId, EventBridgeEvent event, PutEventCallback putEventCallback) {
+        eventDataRepository.putEvent(accountId, EventTool.getEventBus(event), event, putEventCallback);
+    }
 }
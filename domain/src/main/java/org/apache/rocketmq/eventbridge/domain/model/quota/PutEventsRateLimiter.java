@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.domain.model.quota;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.apache.rocketmq.eventbridge.domain.common.exception.EventBridgeErrorCode;
+import org.apache.rocketmq.eventbridge.domain.repository.RateLimitLeaseRepository;
+import org.apache.rocketmq.eventbridge.event.EventBridgeEvent;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+import org.apache.rocketmq.eventbridge.tools.EventTool;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Limits the events put to each event bus of an account across all the api nodes by a {@link RateLimitLease}.
+ * <p>
+ * The lease is created with the quota of {@link QuotaService#getPutEventsTpsQuota(String, String)}. The quota is read
+ * again a while after the lease is loaded, so a changed quota takes effect on the busy event buses as well, and the
+ * lease is dropped after the event bus is idle. The put events are unlimited if the quota isn't configured.
+ * <p>
+ * The leases report the demand of this node to the {@link RateLimitLeaseRepository} by a small pool of daemon threads,
+ * so the store is never accessed on the request path.
+ */
+@Service
+public class PutEventsRateLimiter {
+
+    private static final int MAX_LEASES = 100000;
+
+    private static final long LEASE_IDLE_MINUTES = 10;
+
+    private static final long QUOTA_REFRESH_SECONDS = 60;
+
+    private static final String KEY_SEPARATOR = "/";
+
+    private static final int REPORT_THREADS = 2;
+
+    private static final int MAX_PENDING_REPORTS = 10000;
+
+    private final QuotaService quotaService;
+
+    private final RateLimitLeaseRepository rateLimitLeaseRepository;
+
+    private final Executor reportExecutor;
+
+    /**
+     * The clock of the leases, in nanoseconds
+     */
+    private final LongSupplier nanoClock;
+
+    /**
+     * The id of this api node in the store of the leases
+     */
+    private final String nodeId = UUID.randomUUID()
+        .toString();
+
+    /**
+     * The lease of each account and event bus, empty if the put events is unlimited
+     */
+    private final LoadingCache<String, Optional<RateLimitLease>> leases = CacheBuilder.newBuilder()
+        .maximumSize(MAX_LEASES)
+        .expireAfterAccess(LEASE_IDLE_MINUTES, TimeUnit.MINUTES)
+        .refreshAfterWrite(QUOTA_REFRESH_SECONDS, TimeUnit.SECONDS)
+        .build(new CacheLoader<String, Optional<RateLimitLease>>() {
+            @Override
+            public Optional<RateLimitLease> load(String key) {
+                return loadLease(key, Optional.empty());
+            }
+
+            @Override
+            public ListenableFuture<Optional<RateLimitLease>> reload(String key, Optional<RateLimitLease> oldLease) {
+                return Futures.immediateFuture(loadLease(key, oldLease));
+            }
+        });
+
+    @Autowired
+    public PutEventsRateLimiter(QuotaService quotaService, RateLimitLeaseRepository rateLimitLeaseRepository) {
+        this(quotaService, rateLimitLeaseRepository, initReportExecutor(), System::nanoTime);
+    }
+
+    public PutEventsRateLimiter(QuotaService quotaService, RateLimitLeaseRepository rateLimitLeaseRepository,
+        Executor reportExecutor, LongSupplier nanoClock) {
+        this.quotaService = quotaService;
+        this.rateLimitLeaseRepository = rateLimitLeaseRepository;
+        this.reportExecutor = reportExecutor;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Acquires the permits of the events from the lease of each event bus, either the permits of all the event buses
+     * are acquired, or none of them is spent
+     *
+     * @param accountId
+     * @param events
+     * @throws EventBridgeException of {@link EventBridgeErrorCode#PutEventsRequestThrottled} if an event bus doesn't
+     * have enough permits
+     */
+    public void acquire(String accountId, List<EventBridgeEvent> events) {
+        Map<String, Integer> eventCounts = new LinkedHashMap<>();
+        for (EventBridgeEvent event : events) {
+            eventCounts.merge(EventTool.getEventBus(event), 1, Integer::sum);
+        }
+        Map<RateLimitLease, Integer> acquired = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : eventCounts.entrySet()) {
+            Optional<RateLimitLease> lease = getLease(accountId, entry.getKey());
+            if (!lease.isPresent()) {
+                continue;
+            }
+            if (!lease.get()
+                .tryAcquire(entry.getValue())) {
+                acquired.forEach((acquiredLease, permits) -> acquiredLease.release(permits));
+                throw new EventBridgeException(EventBridgeErrorCode.PutEventsRequestThrottled, entry.getKey(),
+                    String.valueOf(lease.get()
+                        .getLimit()));
+            }
+            acquired.put(lease.get(), entry.getValue());
+        }
+    }
+
+    private Optional<RateLimitLease> getLease(String accountId, String eventBusName) {
+        try {
+            return leases.get(accountId + KEY_SEPARATOR + eventBusName);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new EventBridgeException(EventBridgeErrorCode.InternalError, e.getCause());
+        }
+    }
+
+    /**
+     * Reads the quota of the event bus, and keeps the former lease with its share if the quota isn't changed
+     */
+    private Optional<RateLimitLease> loadLease(String key, Optional<RateLimitLease> oldLease) {
+        int separator = key.lastIndexOf(KEY_SEPARATOR);
+        String accountId = key.substring(0, separator);
+        String eventBusName = key.substring(separator + 1);
+        Integer quota = quotaService.getPutEventsTpsQuota(accountId, eventBusName);
+        if (quota == null || quota <= 0) {
+            return Optional.empty();
+        }
+        if (oldLease.isPresent() && oldLease.get()
+            .getLimit() == quota) {
+            return oldLease;
+        }
+        return Optional.of(
+            new RateLimitLease(accountId, eventBusName, nodeId, quota, rateLimitLeaseRepository, reportExecutor,
+                nanoClock));
+    }
+
+    private static Executor initReportExecutor() {
+        ThreadFactoryBuilder threadFactory = new ThreadFactoryBuilder().setNameFormat("put-events-rate-limit-report-%d")
+            .setDaemon(true);
+        return new ThreadPoolExecutor(REPORT_THREADS, REPORT_THREADS, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(MAX_PENDING_REPORTS), threadFactory.build());
+    }
+}
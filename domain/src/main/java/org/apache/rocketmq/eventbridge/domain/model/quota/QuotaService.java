@@ -27,4 +27,12 @@ public interface QuotaService {
      * @return
      */
     Integer getTotalQuota(String accountId, TotalQuotaEnum totalQuotaEnum);
+
+    /**
+     * Return the max events per second put to the event bus.
+     * @param accountId
+     * @param eventBusName
+     * @return the quota, or null if unlimited
+     */
+    Integer getPutEventsTpsQuota(String accountId, String eventBusName);
 }
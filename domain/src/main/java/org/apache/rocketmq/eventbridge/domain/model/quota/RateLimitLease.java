@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.domain.model.quota;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.rocketmq.eventbridge.domain.repository.RateLimitLeaseRepository;
+
+/**
+ * The share of the rate limit of an event bus leased by this node from the {@link RateLimitLeaseRepository}.
+ * <p>
+ * The events are admitted by a local token bucket refilled at the rate of the share, so no tokens are dropped at the
+ * end of a window and no store is read on the request path. The bucket keeps the time when it is empty again (the
+ * generic cell rate algorithm), and admits a request while the bucket is less than a tenth of a second of the rate in
+ * debt, so any one second admits at most about 1.1 times the rate plus a request.
+ * <p>
+ * The node reports its demand to the store every second it has traffic, asynchronously by the executor, and gets the
+ * total demand of the nodes back. The share is the limit minus the demand of the other nodes if the limit covers all
+ * the demand, otherwise the limit split in proportion to the demand. The share is the whole limit until the first
+ * report, and after a failed report, so the events are still limited per node while the store is out of service.
+ */
+@Slf4j
+public class RateLimitLease {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * The debt of the bucket that still admits a request
+     */
+    private static final long BURST_NANOS = NANOS_PER_SECOND / 10;
+
+    private static final long REPORT_INTERVAL_NANOS = NANOS_PER_SECOND;
+
+    /**
+     * The demand of a node is dropped from the total if the node stops reporting for this time
+     */
+    private static final long REPORT_EXPIRE_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final String accountId;
+
+    private final String eventBusName;
+
+    private final String nodeId;
+
+    private final int limit;
+
+    private final RateLimitLeaseRepository rateLimitLeaseRepository;
+
+    private final Executor reportExecutor;
+
+    /**
+     * The clock of the bucket, in nanoseconds
+     */
+    private final LongSupplier nanoClock;
+
+    /**
+     * The time when the bucket is empty again, in the nanoseconds of the clock
+     */
+    private final AtomicLong emptyTime;
+
+    /**
+     * The permits requested since the last report, admitted or not
+     */
+    private final AtomicLong demand = new AtomicLong();
+
+    private final AtomicBoolean reporting = new AtomicBoolean();
+
+    private volatile long lastReportTime;
+
+    private volatile long rate;
+
+    private volatile long nanosPerPermit;
+
+    public RateLimitLease(String accountId, String eventBusName, String nodeId, int limit,
+        RateLimitLeaseRepository rateLimitLeaseRepository, Executor reportExecutor, LongSupplier nanoClock) {
+        this.accountId = accountId;
+        this.eventBusName = eventBusName;
+        this.nodeId = nodeId;
+        this.limit = limit;
+        this.rateLimitLeaseRepository = rateLimitLeaseRepository;
+        this.reportExecutor = reportExecutor;
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        this.emptyTime = new AtomicLong(now);
+        this.lastReportTime = now;
+        setRate(limit);
+    }
+
+    /**
+     * Acquires the permits if the bucket isn't too much in debt, without waiting
+     *
+     * @param permits the permits to acquire
+     * @return true if the permits are acquired, false if the share of this node is used up for now
+     */
+    public boolean tryAcquire(int permits) {
+        demand.addAndGet(permits);
+        long now = nanoClock.getAsLong();
+        reportIfDue(now);
+        long cost = permits * nanosPerPermit;
+        while (true) {
+            long current = emptyTime.get();
+            long start = Math.max(current, now);
+            if (start - now > BURST_NANOS) {
+                return false;
+            }
+            if (emptyTime.compareAndSet(current, start + cost)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives back the permits acquired but not used
+     *
+     * @param permits the permits to give back
+     */
+    public void release(int permits) {
+        emptyTime.addAndGet(-permits * nanosPerPermit);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the share of the limit leased by this node
+     *
+     * @return the events per second admitted by this node
+     */
+    public long getRate() {
+        return rate;
+    }
+
+    private void reportIfDue(long now) {
+        if (now - lastReportTime < REPORT_INTERVAL_NANOS || !reporting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            reportExecutor.execute(this::report);
+        } catch (RejectedExecutionException e) {
+            reporting.set(false);
+        }
+    }
+
+    private void report() {
+        try {
+            long now = nanoClock.getAsLong();
+            long elapsed = Math.max(now - lastReportTime, REPORT_INTERVAL_NANOS);
+            lastReportTime = now;
+            long demandRate = demand.getAndSet(0) * NANOS_PER_SECOND / elapsed;
+            long currentMillis = System.currentTimeMillis();
+            long totalDemandRate = rateLimitLeaseRepository.reportDemand(accountId, eventBusName, nodeId, demandRate,
+                currentMillis + REPORT_EXPIRE_MILLIS, currentMillis);
+            setRate(share(demandRate, totalDemandRate));
+        } catch (RuntimeException e) {
+            log.warn("Report the put events demand of event bus [{}] of account [{}] failed, limit by the whole quota "
+                + "on this node.", eventBusName, accountId, e);
+            setRate(limit);
+        } finally {
+            reporting.set(false);
+        }
+    }
+
+    private long share(long demandRate, long totalDemandRate) {
+        long otherDemandRate = Math.max(0L, totalDemandRate - demandRate);
+        if (demandRate + otherDemandRate <= limit) {
+            return Math.max(1L, limit - otherDemandRate);
+        }
+        return Math.max(1L, limit * demandRate / (demandRate + otherDemandRate));
+    }
+
+    private void setRate(long rate) {
+        this.rate = rate;
+        this.nanosPerPermit = Math.max(1L, NANOS_PER_SECOND / rate);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.domain.model.rule;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+import org.apache.rocketmq.eventbridge.exception.code.DefaultErrorCode;
+import org.apache.rocketmq.eventbridge.tools.pattern.PatternEvaluator;
+import org.apache.rocketmq.eventbridge.tools.pattern.PatternEvaluatorBuilder;
+import org.springframework.stereotype.Service;
+
+import static org.apache.rocketmq.eventbridge.domain.common.EventBridgeConstants.EVENT_PATTERN_TEST_EVENTS_LIMIT;
+import static org.apache.rocketmq.eventbridge.domain.common.exception.EventBridgeErrorCode.EventPatternTestEventInvalid;
+import static org.apache.rocketmq.eventbridge.domain.common.exception.EventBridgeErrorCode.EventPatternTestEventsExceedLimit;
+
+/**
+ * Tests an event pattern against sample events without creating a rule. The pattern is built once by
+ * {@link #buildEvaluator(String, List)}, then the events can be tested concurrently by {@link #testEvent}.
+ */
+@Service
+public class EventPatternTestService {
+
+    /**
+     * Validates the test request and builds the evaluator shared by all test events
+     *
+     * @param eventPattern the event pattern to test
+     * @param events the test events in CloudEvents json format
+     * @return the evaluator of the event pattern
+     */
+    public PatternEvaluator buildEvaluator(String eventPattern, List<String> events) {
+        if (events != null && events.size() > EVENT_PATTERN_TEST_EVENTS_LIMIT) {
+            throw new EventBridgeException(EventPatternTestEventsExceedLimit, events.size(),
+                EVENT_PATTERN_TEST_EVENTS_LIMIT);
+        }
+        return PatternEvaluatorBuilder.build(eventPattern);
+    }
+
+    /**
+     * Tests whether the event matches the event pattern, an invalid event is reported in the result instead of failing
+     * the whole test request
+     *
+     * @param evaluator the evaluator built by {@link #buildEvaluator(String, List)}
+     * @param index the index of the event in the test request
+     * @param event the event in CloudEvents json format
+     * @return the test result of the event
+     */
+    public EventPatternTestResult testEvent(PatternEvaluator evaluator, int index, String event) {
+        EventPatternTestResult result = new EventPatternTestResult();
+        result.setIndex(index);
+        long startTime = System.nanoTime();
+        try {
+            JsonElement eventElement = event == null ? null : JsonParser.parseString(event);
+            if (eventElement == null || !eventElement.isJsonObject()) {
+                setError(result, EventPatternTestEventInvalid.getCode(), EventPatternTestEventInvalid.getMsg());
+            } else {
+                result.setMatched(evaluator.testEventPattern(eventElement.getAsJsonObject()));
+                result.setErrorCode(DefaultErrorCode.Success.getCode());
+            }
+        } catch (JsonSyntaxException e) {
+            setError(result, EventPatternTestEventInvalid.getCode(), EventPatternTestEventInvalid.getMsg());
+        }
+        result.setCostMicros(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+        return result;
+    }
+
+    private void setError(EventPatternTestResult result, String errorCode, String errorMessage) {
+        result.setMatched(false);
+        result.setErrorCode(errorCode);
+        result.setErrorMessage(errorMessage);
+    }
+}
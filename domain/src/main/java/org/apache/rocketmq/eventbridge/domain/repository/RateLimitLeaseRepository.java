@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.domain.repository;
+
+/**
+ * The store of the put events demand shared by the api nodes, each node leases a share of the rate limit of an event
+ * bus by the demand of all the nodes.
+ */
+public interface RateLimitLeaseRepository {
+
+    /**
+     * Records the demand of the node on the event bus, and sums the demand of all the nodes not expired
+     *
+     * @param accountId
+     * @param eventBusName
+     * @param nodeId the id of the api node
+     * @param demand the events per second requested on the node
+     * @param expireAt the time the demand of the node expires, in epoch milliseconds
+     * @param now the current time, in epoch milliseconds
+     * @return the events per second requested on all the nodes, this node included
+     */
+    long reportDemand(String accountId, String eventBusName, String nodeId, long demand, long expireAt, long now);
+}
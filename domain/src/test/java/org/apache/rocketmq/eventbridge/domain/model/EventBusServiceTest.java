@@ -18,10 +18,13 @@
 package org.apache.rocketmq.eventbridge.domain.model;
 
 import com.google.common.collect.Lists;
+import java.lang.reflect.Field;
 import java.util.List;
+import org.apache.rocketmq.eventbridge.domain.cache.CacheManager;
 import org.apache.rocketmq.eventbridge.domain.model.bus.EventBus;
 import org.apache.rocketmq.eventbridge.domain.model.bus.EventBusService;
 import org.apache.rocketmq.eventbridge.domain.repository.EventBusRepository;
+import org.apache.rocketmq.eventbridge.domain.storage.EventDataRepository;
 import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -32,9 +35,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -46,6 +54,9 @@ public class EventBusServiceTest {
     @Mock
     private EventBusRepository eventBusRepository;
 
+    @Mock
+    private EventDataRepository eventDataRepository;
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
@@ -80,6 +91,49 @@ public class EventBusServiceTest {
         eventBusService.deleteEventBus("123456", "demo");
     }
 
+    @Test
+    public void testCheckExist_cached() throws Exception {
+        Field cacheManager = EventBusService.class.getDeclaredField("cacheManager");
+        cacheManager.setAccessible(true);
+        cacheManager.set(eventBusService, new CacheManager());
+
+        when(eventBusRepository.getEventBus(any(), any())).thenReturn(null);
+        Assert.assertFalse(eventBusService.isExist("123456", "demo"));
+        Assert.assertFalse(eventBusService.isExist("123456", "demo"));
+        verify(eventBusRepository, times(1)).getEventBus("123456", "demo");
+
+        when(eventBusRepository.createEventBus(any(), any(), any())).thenReturn(true);
+        when(eventDataRepository.createEventBusPersistence(any(), any())).thenReturn(true);
+        eventBusService.createEventBus("123456", "demo", "description");
+        when(eventBusRepository.getEventBus(any(), any())).thenReturn(new EventBus());
+        Assert.assertTrue(eventBusService.isExist("123456", "demo"));
+        Assert.assertTrue(eventBusService.isExist("123456", "demo"));
+        verify(eventBusRepository, times(2)).getEventBus("123456", "demo");
+    }
+
+    @Test
+    public void testCheckExist_evictedAfterCommit() throws Exception {
+        Field cacheManager = EventBusService.class.getDeclaredField("cacheManager");
+        cacheManager.setAccessible(true);
+        cacheManager.set(eventBusService, new CacheManager());
+
+        when(eventBusRepository.getEventBus(any(), any())).thenReturn(null);
+        when(eventBusRepository.createEventBus(any(), any(), any())).thenReturn(true);
+        when(eventDataRepository.createEventBusPersistence(any(), any())).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            eventBusService.createEventBus("123456", "demo", "description");
+            // a put before the commit still reads the former row
+            Assert.assertFalse(eventBusService.isExist("123456", "demo"));
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        when(eventBusRepository.getEventBus(any(), any())).thenReturn(new EventBus());
+        Assert.assertTrue(eventBusService.isExist("123456", "demo"));
+    }
+
     @Test
     public void testListEventBuses() {
         EventBus eventBus = new EventBus();
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.domain.model;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import java.util.Collections;
+import java.util.List;
+import org.apache.rocketmq.eventbridge.config.AppConfig;
+import org.apache.rocketmq.eventbridge.config.GlobalConfig;
+import org.apache.rocketmq.eventbridge.domain.model.rule.EventPatternTestResult;
+import org.apache.rocketmq.eventbridge.domain.model.rule.EventPatternTestService;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+import org.apache.rocketmq.eventbridge.exception.code.DefaultErrorCode;
+import org.apache.rocketmq.eventbridge.tools.pattern.PatternEvaluator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.apache.rocketmq.eventbridge.domain.common.EventBridgeConstants.EVENT_PATTERN_TEST_EVENTS_LIMIT;
+import static org.apache.rocketmq.eventbridge.domain.common.exception.EventBridgeErrorCode.EventPatternTestEventInvalid;
+
+public class EventPatternTestServiceTest {
+
+    private EventPatternTestService eventPatternTestService = new EventPatternTestService();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Before
+    public void before() {
+        GlobalConfig globalConfig = new GlobalConfig();
+        globalConfig.setEventExtensionKeys(Sets.newHashSet("aliyunregionid"));
+        AppConfig.refreshGlobalConfig(globalConfig);
+    }
+
+    @Test
+    public void testEvent() {
+        List<String> events = Lists.newArrayList(
+            "{\"source\":\"acs.ecs\",\"aliyunregionid\":\"cn-hangzhou\",\"data\":{\"state\":\"running\"}}",
+            "{\"source\":\"acs.ecs\",\"data\":{\"state\":\"stopped\"}}", "not a json event", "[]");
+        PatternEvaluator evaluator = eventPatternTestService.buildEvaluator(
+            "{\"source\":[\"acs.ecs\"],\"data\":{\"state\":[\"running\"]}}", events);
+
+        EventPatternTestResult result = eventPatternTestService.testEvent(evaluator, 0, events.get(0));
+        Assert.assertEquals(0, result.getIndex());
+        Assert.assertTrue(result.isMatched());
+        Assert.assertEquals(DefaultErrorCode.Success.getCode(), result.getErrorCode());
+
+        result = eventPatternTestService.testEvent(evaluator, 1, events.get(1));
+        Assert.assertFalse(result.isMatched());
+        Assert.assertEquals(DefaultErrorCode.Success.getCode(), result.getErrorCode());
+
+        result = eventPatternTestService.testEvent(evaluator, 2, events.get(2));
+        Assert.assertFalse(result.isMatched());
+        Assert.assertEquals(EventPatternTestEventInvalid.getCode(), result.getErrorCode());
+
+        result = eventPatternTestService.testEvent(evaluator, 3, events.get(3));
+        Assert.assertEquals(EventPatternTestEventInvalid.getCode(), result.getErrorCode());
+    }
+
+    @Test
+    public void testBuildEvaluator_exceedLimit() {
+        List<String> events = Collections.nCopies(EVENT_PATTERN_TEST_EVENTS_LIMIT + 1, "{}");
+        thrown.expect(EventBridgeException.class);
+        eventPatternTestService.buildEvaluator("{}", events);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.eventbridge.domain.model;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.rocketmq.eventbridge.config.AppConfig;
+import org.apache.rocketmq.eventbridge.domain.model.quota.PutEventsRateLimiter;
+import org.apache.rocketmq.eventbridge.domain.model.quota.QuotaService;
+import org.apache.rocketmq.eventbridge.domain.model.quota.RateLimitLease;
+import org.apache.rocketmq.eventbridge.domain.repository.RateLimitLeaseRepository;
+import org.apache.rocketmq.eventbridge.event.EventBridgeEvent;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PutEventsRateLimiterTest {
+
+    private PutEventsRateLimiter putEventsRateLimiter;
+
+    @Mock
+    private QuotaService quotaService;
+
+    private final LocalRateLimitLeaseRepository rateLimitLeaseRepository = new LocalRateLimitLeaseRepository();
+
+    private final AtomicLong nanoClock = new AtomicLong();
+
+    @Before
+    public void before() {
+        putEventsRateLimiter = new PutEventsRateLimiter(quotaService, rateLimitLeaseRepository, Runnable::run,
+            nanoClock::get);
+    }
+
+    @Test
+    public void testRateLimitLease() {
+        RateLimitLease lease = buildLease("node1", 10);
+        int acquired = 0;
+        for (int i = 0; i < 1000; i++) {
+            acquired += lease.tryAcquire(1) ? 1 : 0;
+            nanoClock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        Assert.assertEquals(11, acquired);
+
+        // the permits not used while idle aren't saved up
+        nanoClock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        acquired = 0;
+        for (int i = 0; i < 10; i++) {
+            acquired += lease.tryAcquire(1) ? 1 : 0;
+        }
+        Assert.assertEquals(2, acquired);
+    }
+
+    @Test
+    public void testRateLimitLease_Share() {
+        RateLimitLease node1 = buildLease("node1", 100);
+        RateLimitLease node2 = buildLease("node2", 100);
+        Assert.assertEquals(100, node1.getRate());
+
+        nanoClock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        node2.tryAcquire(120);
+        node1.tryAcquire(80);
+        Assert.assertEquals(40, node1.getRate());
+        nanoClock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        node2.tryAcquire(120);
+        node1.tryAcquire(80);
+        Assert.assertEquals(60, node2.getRate());
+        Assert.assertEquals(40, node1.getRate());
+
+        // the demand of the other nodes is left to the node if the limit covers all the demand
+        nanoClock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        node1.tryAcquire(10);
+        node2.tryAcquire(20);
+        Assert.assertEquals(90, node2.getRate());
+        nanoClock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        node1.tryAcquire(10);
+        Assert.assertEquals(80, node1.getRate());
+    }
+
+    @Test
+    public void testRateLimitLease_StoreFailed() {
+        RateLimitLease node1 = buildLease("node1", 100);
+        RateLimitLease node2 = buildLease("node2", 100);
+        nanoClock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        node2.tryAcquire(100);
+        node1.tryAcquire(100);
+        Assert.assertEquals(50, node1.getRate());
+
+        // the whole limit is used on the node while the store is out of service
+        rateLimitLeaseRepository.setFailed(true);
+        nanoClock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        node1.tryAcquire(1);
+        Assert.assertEquals(100, node1.getRate());
+    }
+
+    @Test
+    public void testAcquire() {
+        when(quotaService.getPutEventsTpsQuota(any(), any())).thenReturn(2);
+        putEventsRateLimiter.acquire("123456", buildEvents("demo-bus", 2));
+        try {
+            putEventsRateLimiter.acquire("123456", buildEvents("demo-bus", 1));
+            Assert.fail();
+        } catch (EventBridgeException e) {
+            Assert.assertEquals("PutEventsRequestThrottled", e.getCode());
+        }
+        putEventsRateLimiter.acquire("123456", buildEvents("other-bus", 2));
+    }
+
+    @Test
+    public void testAcquire_AllOrNothing() {
+        when(quotaService.getPutEventsTpsQuota(any(), any())).thenReturn(2);
+        putEventsRateLimiter.acquire("123456", buildEvents("other-bus", 2));
+        List<EventBridgeEvent> events = buildEvents("demo-bus", 2);
+        events.addAll(buildEvents("other-bus", 1));
+        try {
+            putEventsRateLimiter.acquire("123456", events);
+            Assert.fail();
+        } catch (EventBridgeException e) {
+            Assert.assertEquals("PutEventsRequestThrottled", e.getCode());
+        }
+        // the permits of demo-bus are given back when other-bus is throttled
+        putEventsRateLimiter.acquire("123456", buildEvents("demo-bus", 2));
+    }
+
+    @Test
+    public void testAcquire_Unlimited() {
+        when(quotaService.getPutEventsTpsQuota(any(), any())).thenReturn(null);
+        putEventsRateLimiter.acquire("123456", buildEvents("demo-bus", 100));
+        putEventsRateLimiter.acquire("123456", buildEvents("demo-bus", 100));
+    }
+
+    private RateLimitLease buildLease(String nodeId, int limit) {
+        return new RateLimitLease("123456", "demo-bus", nodeId, limit, rateLimitLeaseRepository, Runnable::run,
+            nanoClock::get);
+    }
+
+    private List<EventBridgeEvent> buildEvents(String eventBusName, int count) {
+        List<EventBridgeEvent> events = Lists.newArrayList();
+        for (int i = 0; i < count; i++) {
+            EventBridgeEvent event = new EventBridgeEvent();
+            event.addExtension(AppConfig.getGlobalConfig()
+                .getGetEventBusExtensionKey(), eventBusName);
+            events.add(event);
+        }
+        return events;
+    }
+
+    /**
+     * The in-process store of the demand of the nodes, standing in for the table shared by the nodes
+     */
+    private static class LocalRateLimitLeaseRepository implements RateLimitLeaseRepository {
+
+        private final Map<String, Long> demands = new ConcurrentHashMap<>();
+
+        private volatile boolean failed;
+
+        @Override
+        public long reportDemand(String accountId, String eventBusName, String nodeId, long demand, long expireAt,
+            long now) {
+            if (failed) {
+                throw new IllegalStateException("The store is out of service.");
+            }
+            demands.put(nodeId, demand);
+            return demands.values()
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+        }
+
+        void setFailed(boolean failed) {
+            this.failed = failed;
+        }
+    }
+}
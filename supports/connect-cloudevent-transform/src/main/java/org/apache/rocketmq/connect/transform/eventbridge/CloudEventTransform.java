@@ -26,8 +26,11 @@ import io.openmessaging.connector.api.data.ConnectRecord;
 import org.apache.rocketmq.eventbridge.tools.transform.*;
 
 import java.time.Instant;
-import java.util.UUID;
 
+/**
+ * Builds the CloudEvents attributes of the record. The attribute transforms are built by {@link #init(KeyValue)} and
+ * never modified afterwards, so records are transformed concurrently.
+ */
 public class CloudEventTransform implements io.openmessaging.connector.api.component.Transform {
 
     private Transform idTransform;
@@ -38,51 +41,51 @@ public class CloudEventTransform implements io.openmessaging.connector.api.compo
     private Transform timeTransform;
     private Transform subjectTransform;
 
+    /**
+     * The config key of the {@link IdGenerator}
+     */
+    public static final String ID_GENERATOR = "idGenerator";
+
+    private IdGenerator idGenerator = IdGenerator.RANDOM;
+
+    private volatile CachedTime cachedTime = new CachedTime(0L, null);
+
     @Override
     public ConnectRecord doTransform(ConnectRecord record) {
-        Object data = record.getData();
-        record.addExtension(CloudEventV1.ID, this.buildId(resetRecord(record, data)));
-        record.addExtension(CloudEventV1.SOURCE, this.buildSource(resetRecord(record, data)));
-        record.addExtension(CloudEventV1.SPECVERSION, this.buildSpecversion(resetRecord(record, data)));
-        record.addExtension(CloudEventV1.TYPE, this.buildType(resetRecord(record, data)));
-        record.addExtension(CloudEventV1.DATACONTENTTYPE, this.buildDataContentType(resetRecord(record, data)));
-        record.addExtension(CloudEventV1.TIME, this.buildTime(resetRecord(record, data)));
-        record.addExtension(CloudEventV1.SUBJECT, this.buildSubject(resetRecord(record, data)));
-        record.setData(data);
-        return record;
-    }
-
-    private ConnectRecord resetRecord(ConnectRecord record, Object data) {
-        record.setData(data);
+        Data input = new ConnectRecordData(record);
+        record.addExtension(CloudEventV1.ID, this.buildId(input));
+        record.addExtension(CloudEventV1.SOURCE, this.buildSource(input));
+        record.addExtension(CloudEventV1.SPECVERSION, this.buildSpecversion(input));
+        record.addExtension(CloudEventV1.TYPE, this.buildType(input));
+        record.addExtension(CloudEventV1.DATACONTENTTYPE, this.buildDataContentType(input));
+        record.addExtension(CloudEventV1.TIME, this.buildTime(input));
+        record.addExtension(CloudEventV1.SUBJECT, this.buildSubject(input));
         return record;
     }
 
-    private String buildId(ConnectRecord record) {
+    private String buildId(Data input) {
         if (idTransform == null) {
-            return UUID.randomUUID()
-                .toString();
+            return idGenerator.generate();
         }
-        Data result = idTransform.process(new ObjectData(record, ConnectRecord.class));
+        Data result = idTransform.process(input);
         String id;
         if (result == null) {
-            id = UUID.randomUUID()
-                .toString();
+            id = idGenerator.generate();
         } else {
             id = withStringData(result);
         }
         if (Strings.isNullOrEmpty(id)) {
-            return UUID.randomUUID()
-                .toString();
+            return idGenerator.generate();
         } else {
             return id;
         }
     }
 
-    private String buildSource(ConnectRecord record) {
+    private String buildSource(Data input) {
         if (sourceTransform == null) {
             return null;
         }
-        Data result = sourceTransform.process(new ObjectData(record, ConnectRecord.class));
+        Data result = sourceTransform.process(input);
         if (result == null) {
             return null;
         } else {
@@ -90,11 +93,11 @@ public class CloudEventTransform implements io.openmessaging.connector.api.compo
         }
     }
 
-    private String buildType(ConnectRecord record) {
+    private String buildType(Data input) {
         if (typeTransform == null) {
             return null;
         }
-        Data result = typeTransform.process(new ObjectData(record, ConnectRecord.class));
+        Data result = typeTransform.process(input);
         if (result == null) {
             return null;
         } else {
@@ -102,11 +105,11 @@ public class CloudEventTransform implements io.openmessaging.connector.api.compo
         }
     }
 
-    private String buildDataContentType(ConnectRecord record) {
+    private String buildDataContentType(Data input) {
         if (datacontenttypeTransform == null) {
             return null;
         }
-        Data result = datacontenttypeTransform.process(new ObjectData(record, ConnectRecord.class));
+        Data result = datacontenttypeTransform.process(input);
         if (result == null) {
             return null;
         } else {
@@ -114,11 +117,11 @@ public class CloudEventTransform implements io.openmessaging.connector.api.compo
         }
     }
 
-    private String buildSpecversion(ConnectRecord record) {
+    private String buildSpecversion(Data input) {
         if (specversionTransform == null) {
             return SpecVersion.V1.toString();
         }
-        Data result = specversionTransform.process(new ObjectData(record, ConnectRecord.class));
+        Data result = specversionTransform.process(input);
         if (result == null) {
             return SpecVersion.V1.toString();
         } else {
@@ -126,11 +129,11 @@ public class CloudEventTransform implements io.openmessaging.connector.api.compo
         }
     }
 
-    private String buildSubject(ConnectRecord record) {
+    private String buildSubject(Data input) {
         if (subjectTransform == null) {
             return null;
         }
-        Data result = subjectTransform.process(new ObjectData(record, ConnectRecord.class));
+        Data result = subjectTransform.process(input);
         if (result == null) {
             return null;
         } else {
@@ -138,20 +141,33 @@ public class CloudEventTransform implements io.openmessaging.connector.api.compo
         }
     }
 
-    private String buildTime(ConnectRecord record) {
+    private String buildTime(Data input) {
         if (timeTransform == null) {
-            return Instant.ofEpochMilli(System.currentTimeMillis())
-                .toString();
+            return currentTime();
         }
-        Data result = timeTransform.process(new ObjectData(record, ConnectRecord.class));
+        Data result = timeTransform.process(input);
         if (result == null) {
-            return Instant.ofEpochMilli(System.currentTimeMillis())
-                .toString();
+            return currentTime();
         } else {
             return withStringData(result);
         }
     }
 
+    /**
+     * Formats the current time, reusing the formatted time within the same millisecond
+     */
+    private String currentTime() {
+        long now = System.currentTimeMillis();
+        CachedTime current = this.cachedTime;
+        if (current.millis == now && current.text != null) {
+            return current.text;
+        }
+        String text = Instant.ofEpochMilli(now)
+            .toString();
+        this.cachedTime = new CachedTime(now, text);
+        return text;
+    }
+
     private static String withStringData(Data result) {
         if (result instanceof StringData) {
             return ((StringData) result).getData();
@@ -176,6 +192,7 @@ public class CloudEventTransform implements io.openmessaging.connector.api.compo
         this.datacontenttypeTransform = buildTransform(config, CloudEventV1.DATACONTENTTYPE);
         this.timeTransform = buildTransform(config, CloudEventV1.TIME);
         this.subjectTransform = buildTransform(config, CloudEventV1.SUBJECT);
+        this.idGenerator = IdGenerator.of(config.getString(ID_GENERATOR));
     }
 
     @Override
@@ -197,4 +214,14 @@ public class CloudEventTransform implements io.openmessaging.connector.api.compo
 
     }
 
+    private static class CachedTime {
+        private final long millis;
+        private final String text;
+
+        CachedTime(long millis, String text) {
+            this.millis = millis;
+            this.text = text;
+        }
+    }
+
 }
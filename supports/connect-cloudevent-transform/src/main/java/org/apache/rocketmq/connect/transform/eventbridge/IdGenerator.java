@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.connect.transform.eventbridge;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+import org.apache.rocketmq.eventbridge.tools.transform.TransformErrorCode;
+
+/**
+ * Generates the id of the CloudEvent when the id isn't provided by the record
+ */
+public enum IdGenerator {
+    /**
+     * The random UUID by {@link UUID#randomUUID()}, backed by SecureRandom
+     */
+    RANDOM {
+        @Override
+        public String generate() {
+            return UUID.randomUUID()
+                .toString();
+        }
+    },
+    /**
+     * The random UUID (version 4) by {@link ThreadLocalRandom}, which doesn't contend on the shared SecureRandom, but
+     * isn't cryptographically strong
+     */
+    FAST {
+        @Override
+        public String generate() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+            long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            return new UUID(mostSigBits, leastSigBits).toString();
+        }
+    };
+
+    public abstract String generate();
+
+    /**
+     * Returns the generator by name, {@link #RANDOM} if the name is empty
+     *
+     * @param name the name of the generator
+     * @return the id generator
+     */
+    public static IdGenerator of(String name) {
+        if (name == null || name.isEmpty()) {
+            return RANDOM;
+        }
+        for (IdGenerator idGenerator : values()) {
+            if (idGenerator.name()
+                .equalsIgnoreCase(name)) {
+                return idGenerator;
+            }
+        }
+        throw new EventBridgeException(TransformErrorCode.InvalidConfig, name);
+    }
+}
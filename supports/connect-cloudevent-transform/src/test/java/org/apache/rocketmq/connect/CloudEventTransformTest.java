@@ -17,6 +17,7 @@
 package org.apache.rocketmq.connect;
 
 import java.util.Map;
+import java.util.UUID;
 
 import com.google.common.collect.Maps;
 import io.openmessaging.KeyValue;
@@ -53,4 +54,23 @@ public class CloudEventTransformTest {
         Assert.assertEquals(result.getExtension("subject"), "subject");
         Assert.assertEquals(result.getExtension("type"), "type");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void doTransformWithFastIdGenerator() {
+        KeyValue keyValue = new DefaultKeyValue();
+        keyValue.put("source", "{\"value\":\"$.data.source\",\"form\":\"JSONPATH\"}");
+        keyValue.put(CloudEventTransform.ID_GENERATOR, "fast");
+        CloudEventTransform cloudEventTransform = new CloudEventTransform();
+        cloudEventTransform.init(keyValue);
+
+        ConnectRecord record = new ConnectRecord(null, null, System.currentTimeMillis());
+        record.setData("{\"source\":\"source\"}");
+
+        ConnectRecord result = cloudEventTransform.doTransform(record);
+
+        Assert.assertEquals("source", result.getExtension("source"));
+        Assert.assertEquals(4, UUID.fromString(result.getExtension("id"))
+            .version());
+        Assert.assertNotNull(result.getExtension("time"));
+    }
+}
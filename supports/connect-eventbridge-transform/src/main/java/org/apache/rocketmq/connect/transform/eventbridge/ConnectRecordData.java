@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.connect.transform.eventbridge;
+
+import io.openmessaging.connector.api.data.ConnectRecord;
+import org.apache.rocketmq.eventbridge.tools.transform.JsonDocument;
+import org.apache.rocketmq.eventbridge.tools.transform.ObjectData;
+
+/**
+ * The record passed to several transforms at once, such as the attribute transforms of a CloudEvent. The data of the
+ * record is parsed once on the first json path read, and shared by all transforms, whatever the data type is.
+ * <p>
+ * It must not be reused after the data of the record is replaced.
+ */
+public class ConnectRecordData extends ObjectData {
+
+    private JsonDocument document;
+
+    public ConnectRecordData(ConnectRecord record) {
+        super(record, ConnectRecord.class);
+    }
+
+    public JsonDocument getDocument() {
+        if (document == null) {
+            document = JsonDocument.of(((ConnectRecord) getData()).getData());
+        }
+        return document;
+    }
+}
@@ -20,10 +20,11 @@ package org.apache.rocketmq.connect.transform.eventbridge;
 import java.util.List;
 
 import com.google.common.collect.Lists;
-import com.google.gson.Gson;
+import com.jayway.jsonpath.JsonPath;
 import io.openmessaging.connector.api.data.ConnectRecord;
 import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
 import org.apache.rocketmq.eventbridge.tools.transform.Data;
+import org.apache.rocketmq.eventbridge.tools.transform.JsonDocument;
 import org.apache.rocketmq.eventbridge.tools.transform.JsonPathExtract;
 import org.apache.rocketmq.eventbridge.tools.transform.JsonPathUtil;
 import org.apache.rocketmq.eventbridge.tools.transform.ObjectData;
@@ -34,51 +35,126 @@ import static org.apache.rocketmq.eventbridge.tools.transform.JsonPathUtil.JSONP
 
 public class ConnectRecordJsonPathExtract extends JsonPathExtract {
 
+    /**
+     * The extract elements classified by where the value is read from the record, built once with the extract
+     */
+    private final List<RecordPathElement> recordPathList;
+
     public ConnectRecordJsonPathExtract(String extractJson) throws EventBridgeException {
         super(extractJson);
+        List<RecordPathElement> recordPathElementList = Lists.newArrayListWithCapacity(extractList.size());
+        for (JsonPathElement element : extractList) {
+            recordPathElementList.add(new RecordPathElement(element));
+        }
+        this.recordPathList = recordPathElementList;
     }
 
     @Override
     public List<Variable> parse(Data data) throws EventBridgeException {
         if (data instanceof ObjectData && ((ObjectData) data).getClassType()
             .equals(ConnectRecord.class)) {
-            return parseElementFromConnectRecord((ConnectRecord) ((ObjectData) data).getData());
+            JsonDocument document = data instanceof ConnectRecordData ? ((ConnectRecordData) data).getDocument() : null;
+            return parseElementFromConnectRecord((ConnectRecord) ((ObjectData) data).getData(), document);
         } else {
             return super.parse(data);
         }
     }
 
     public List<Variable> parseElementFromConnectRecord(ConnectRecord connectRecord) throws EventBridgeException {
-        if (extractList == null || extractList.isEmpty()) {
+        return parseElementFromConnectRecord(connectRecord, null);
+    }
+
+    /**
+     * parse variable list from the record, reading the data by the parsed document if provided
+     *
+     * @param connectRecord
+     * @param document the parsed document of the record data, parsed on demand if null
+     * @return
+     * @throws EventBridgeException
+     */
+    public List<Variable> parseElementFromConnectRecord(ConnectRecord connectRecord,
+        JsonDocument document) throws EventBridgeException {
+        if (recordPathList.isEmpty()) {
             return Lists.newArrayListWithCapacity(0);
         }
-        List<Variable> variableList = Lists.newArrayListWithCapacity(extractList.size());
-        for (JsonPathElement element : extractList) {
-            if (JsonPathUtil.isValidAndDefinite(element.getJsonPath())) {
-                if (element.getJsonPath()
-                    .equals(JSONPATH_PREFIX) || element.getJsonPath()
-                    .equals(JSONPATH_PREFIX_WITH_POINT)) {
-                    variableList.add(new Variable(element.getVariableName(), connectRecord.getData()));
-                } else if (element.getJsonPath()
-                    .equals(JsonPathUtil.JSONPATH_DATA)) {
-                    variableList.add(new Variable(element.getVariableName(), connectRecord.getData()));
-                } else if (element.getJsonPath()
-                    .startsWith(JsonPathUtil.JSONPATH_DATA)) {
-                    String StringData = connectRecord.getData() instanceof String ? (String) (connectRecord.getData())
-                        : new Gson().toJson(connectRecord.getData());
-                    variableList.add(new Variable(element.getVariableName(), JsonPathUtil.readJsonPathValue(StringData,
-                        JsonPathUtil.removeDataOfJsonPath(element.getJsonPath()))));
-                } else {
-                    String key = element.getJsonPath()
-                        .substring(2, element.getJsonPath()
-                            .length());
-                    variableList.add(new Variable(element.getVariableName(), connectRecord.getExtension(key)));
-                }
-            } else {
-                variableList.add(new Variable(element.getVariableName(), element.getJsonPath()));
+        List<Variable> variableList = Lists.newArrayListWithCapacity(recordPathList.size());
+        for (RecordPathElement element : recordPathList) {
+            switch (element.source) {
+                case DATA:
+                    if (connectRecord.getData() instanceof byte[]) {
+                        // the binary data is decoded only when the transform references it
+                        if (document == null) {
+                            document = JsonDocument.of(connectRecord.getData());
+                        }
+                        variableList.add(new Variable(element.variableName, document.getText()));
+                    } else {
+                        variableList.add(new Variable(element.variableName, connectRecord.getData()));
+                    }
+                    break;
+                case DATA_PATH:
+                    if (document == null) {
+                        document = JsonDocument.of(connectRecord.getData());
+                    }
+                    variableList.add(new Variable(element.variableName, element.dataPath == null
+                        ? JsonPathUtil.readJsonPathValue(document, element.key)
+                        : JsonPathUtil.readJsonPathValue(document, element.dataPath)));
+                    break;
+                case EXTENSION:
+                    variableList.add(new Variable(element.variableName, connectRecord.getExtension(element.key)));
+                    break;
+                default:
+                    variableList.add(new Variable(element.variableName, element.key));
             }
-
         }
         return variableList;
     }
+
+    private enum RecordPathSource {
+        /**
+         * The whole data of the record, by "$" or "$.data"
+         */
+        DATA,
+        /**
+         * The json path inside the data of the record, by "$.data.xxx"
+         */
+        DATA_PATH,
+        /**
+         * The extension of the record, by "$.xxx"
+         */
+        EXTENSION,
+        /**
+         * Not a valid and definite json path, the json path itself is the value
+         */
+        CONSTANT
+    }
+
+    private static class RecordPathElement {
+        private final String variableName;
+        private final RecordPathSource source;
+        private final String key;
+        private final JsonPath dataPath;
+
+        RecordPathElement(JsonPathElement element) {
+            String jsonPath = element.getJsonPath();
+            this.variableName = element.getVariableName();
+            if (!element.isDefinite()) {
+                this.source = RecordPathSource.CONSTANT;
+                this.key = jsonPath;
+                this.dataPath = null;
+            } else if (jsonPath.equals(JSONPATH_PREFIX) || jsonPath.equals(JSONPATH_PREFIX_WITH_POINT)
+                || jsonPath.equals(JsonPathUtil.JSONPATH_DATA)) {
+                this.source = RecordPathSource.DATA;
+                this.key = null;
+                this.dataPath = null;
+            } else if (jsonPath.startsWith(JsonPathUtil.JSONPATH_DATA)) {
+                this.source = RecordPathSource.DATA_PATH;
+                this.key = JsonPathUtil.removeDataOfJsonPath(jsonPath);
+                this.dataPath = JsonPathUtil.compileIfValidAndDefinite(key);
+            } else {
+                this.source = RecordPathSource.EXTENSION;
+                this.key = jsonPath.substring(2);
+                this.dataPath = null;
+            }
+        }
+    }
 }
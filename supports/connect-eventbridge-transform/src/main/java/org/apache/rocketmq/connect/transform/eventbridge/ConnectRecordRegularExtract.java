@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.connect.transform.eventbridge;
+
+import io.openmessaging.connector.api.data.ConnectRecord;
+import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
+import org.apache.rocketmq.eventbridge.tools.transform.Data;
+import org.apache.rocketmq.eventbridge.tools.transform.JsonDocument;
+import org.apache.rocketmq.eventbridge.tools.transform.ObjectData;
+import org.apache.rocketmq.eventbridge.tools.transform.RegularExtract;
+
+/**
+ * Matches the regex against the data of the record, the text of the data is shared with the other transforms of the
+ * record by the document of {@link ConnectRecordData}.
+ */
+public class ConnectRecordRegularExtract extends RegularExtract {
+
+    public ConnectRecordRegularExtract(String regex) throws EventBridgeException {
+        super(regex);
+    }
+
+    @Override
+    protected String readText(Data data) {
+        if (data instanceof ConnectRecordData) {
+            return ((ConnectRecordData) data).getDocument()
+                .getText();
+        }
+        if (data instanceof ObjectData && ((ObjectData) data).getClassType()
+            .equals(ConnectRecord.class)) {
+            return JsonDocument.of(((ConnectRecord) ((ObjectData) data).getData()).getData())
+                .getText();
+        }
+        return super.readText(data);
+    }
+}
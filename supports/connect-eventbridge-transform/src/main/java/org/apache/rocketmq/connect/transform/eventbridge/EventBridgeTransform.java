@@ -24,20 +24,26 @@ import io.openmessaging.connector.api.data.ConnectRecord;
 import io.openmessaging.connector.api.data.SchemaBuilder;
 import org.apache.rocketmq.eventbridge.tools.transform.*;
 
+import java.util.Collections;
 import java.util.Map;
 
 public class EventBridgeTransform implements io.openmessaging.connector.api.component.Transform {
 
-    private Map<String, Transform> paramTransform = Maps.newHashMap();
+    /**
+     * Built by {@link #init(KeyValue)} and never modified afterwards, since records are transformed concurrently
+     */
+    private Map<String, Transform> paramTransform = Collections.emptyMap();
 
     private static final String DEFAULT_DATA_KEY = "data";
 
     @Override
     public ConnectRecord doTransform(ConnectRecord record) {
+        // the transforms share the document of the original data, which is replaced by the last transform only
+        Data input = new ConnectRecordData(record);
         paramTransform.entrySet()
             .forEach(entry -> {
                 Data data = entry.getValue()
-                    .process(new ObjectData(record, ConnectRecord.class));
+                    .process(input);
                 if (DEFAULT_DATA_KEY.equals(entry.getKey())) {
                     record.setData(((StringData) data).getData());
                     record.setSchema(SchemaBuilder.string()
@@ -56,11 +62,22 @@ public class EventBridgeTransform implements io.openmessaging.connector.api.comp
 
     @Override
     public void init(KeyValue config) {
+        Map<String, Transform> transformMap = Maps.newLinkedHashMap();
         config.keySet()
                 .forEach(key -> {
                     TransformParam transformParam = new Gson().fromJson(config.getString(key), TransformParam.class);
-                    paramTransform.put(key, EventBridgeTransformBuilder.buildTransform(transformParam));
+                    // the original data is kept as is, skip the no-op transform
+                    if (DEFAULT_DATA_KEY.equals(key) && transformParam.getForm() == TransformEnum.ORIGINAL) {
+                        return;
+                    }
+                    transformMap.put(key, EventBridgeTransformBuilder.buildTransform(transformParam));
                 });
+        // the data is replaced last, so the extensions are always extracted from the original data
+        Transform dataTransform = transformMap.remove(DEFAULT_DATA_KEY);
+        if (dataTransform != null) {
+            transformMap.put(DEFAULT_DATA_KEY, dataTransform);
+        }
+        this.paramTransform = Collections.unmodifiableMap(transformMap);
     }
 
     @Override
@@ -17,9 +17,11 @@
 
 package org.apache.rocketmq.connect.transform.eventbridge;
 
+import com.google.common.base.Strings;
 import org.apache.rocketmq.eventbridge.exception.EventBridgeException;
 import org.apache.rocketmq.eventbridge.tools.transform.JsonPathTransform;
 import org.apache.rocketmq.eventbridge.tools.transform.JsonUtil;
+import org.apache.rocketmq.eventbridge.tools.transform.RegexTransform;
 import org.apache.rocketmq.eventbridge.tools.transform.Template;
 import org.apache.rocketmq.eventbridge.tools.transform.TemplateBuilder;
 import org.apache.rocketmq.eventbridge.tools.transform.TemplateTransform;
@@ -46,6 +48,8 @@ public class EventBridgeTransformBuilder extends TransformBuilder {
                 return buildDeleteFieldTransform(transformParam.getValue());
             case UPDATE_FIELD:
                 return buildUpdateFieldTransform(transformParam.getValue());
+            case REGEX:
+                return buildRegexTransform(transformParam.getValue(), transformParam.getTemplate());
             default:
                 throw new EventBridgeException(TransformErrorCode.InvalidConfig);
         }
@@ -78,7 +82,21 @@ public class EventBridgeTransformBuilder extends TransformBuilder {
      */
     public static Transform buildTemplateTransForm(String extractJson, String template) throws EventBridgeException {
         ConnectRecordJsonPathExtract jsonPathExtract = new ConnectRecordJsonPathExtract(extractJson);
-        Template templateEntry = TemplateBuilder.stringSubstitutorTemplate(template);
+        Template templateEntry = TemplateBuilder.compiledTemplate(template);
         return new TemplateTransform(jsonPathExtract, templateEntry);
     }
+
+    /**
+     * build RegexTransform
+     *
+     * @param regex
+     * @param template
+     * @return
+     * @throws EventBridgeException
+     */
+    public static Transform buildRegexTransform(String regex, String template) throws EventBridgeException {
+        ConnectRecordRegularExtract regularExtract = new ConnectRecordRegularExtract(regex);
+        Template templateEntry = Strings.isNullOrEmpty(template) ? null : TemplateBuilder.compiledTemplate(template);
+        return new RegexTransform(regularExtract, templateEntry);
+    }
 }
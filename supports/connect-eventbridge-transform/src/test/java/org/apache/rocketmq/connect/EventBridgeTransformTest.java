@@ -18,8 +18,14 @@
 
 package org.apache.rocketmq.connect;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.gson.Gson;
 import io.openmessaging.KeyValue;
@@ -50,4 +56,69 @@ public class EventBridgeTransformTest {
         ConnectRecord result = eventBridgeTransform.doTransform(record);
         Assert.assertEquals("{\"text\":{\"content\":\"demo\"},\"msgtype\":\"text\"}", result.getData());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void doTransformWithBinaryData() {
+        KeyValue keyValue = new DefaultKeyValue();
+        keyValue.put("data", "{\"form\":\"ORIGINAL\"}");
+        keyValue.put("subject", "{\"form\":\"JSONPATH\",\"value\":\"$.data.body\"}");
+        EventBridgeTransform eventBridgeTransform = new EventBridgeTransform();
+        eventBridgeTransform.init(keyValue);
+
+        byte[] data = "{\"body\":\"demo\"}".getBytes(StandardCharsets.UTF_8);
+        ConnectRecord record = new ConnectRecord(null, null, System.currentTimeMillis());
+        record.setData(data);
+
+        ConnectRecord result = eventBridgeTransform.doTransform(record);
+        Assert.assertSame(data, result.getData());
+        Assert.assertEquals("demo", result.getExtension("subject"));
+    }
+
+    @Test
+    public void doTransformWithRegex() {
+        KeyValue keyValue = new DefaultKeyValue();
+        keyValue.put("data", "{\"form\":\"REGEX\",\"value\":\"(?<level>[A-Z]+) (?<message>.*)\","
+            + "\"template\":\"{\\\"level\\\":\\\"${level}\\\",\\\"message\\\":\\\"${message}\\\"}\"}");
+        keyValue.put("subject", "{\"form\":\"REGEX\",\"value\":\"(?<level>[A-Z]+) \",\"template\":\"${level}\"}");
+        EventBridgeTransform eventBridgeTransform = new EventBridgeTransform();
+        eventBridgeTransform.init(keyValue);
+
+        ConnectRecord record = new ConnectRecord(null, null, System.currentTimeMillis());
+        record.setData("ERROR disk is full");
+
+        ConnectRecord result = eventBridgeTransform.doTransform(record);
+        Assert.assertEquals("{\"level\":\"ERROR\",\"message\":\"disk is full\"}", result.getData());
+        Assert.assertEquals("ERROR", result.getExtension("subject"));
+    }
+
+    @Test
+    public void doTransformConcurrently() throws Exception {
+        KeyValue keyValue = new DefaultKeyValue();
+        keyValue.put("data",
+            "{\"template\":\"{\\\"content\\\":\\\"${content}\\\"}\","
+                + "\"form\":\"TEMPLATE\",\"value\":\"{\\\"content\\\":\\\"$.data.body\\\"}\"}");
+        keyValue.put("subject", "{\"form\":\"JSONPATH\",\"value\":\"$.data.body\"}");
+        EventBridgeTransform eventBridgeTransform = new EventBridgeTransform();
+        eventBridgeTransform.init(keyValue);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = Lists.newArrayList();
+            for (int i = 0; i < 2000; i++) {
+                final String body = "demo-" + i;
+                futures.add(executorService.submit(() -> {
+                    ConnectRecord record = new ConnectRecord(null, null, System.currentTimeMillis());
+                    record.setData("{\"body\":\"" + body + "\"}");
+                    ConnectRecord result = eventBridgeTransform.doTransform(record);
+                    return ("{\"content\":\"" + body + "\"}").equals(result.getData()) && body.equals(
+                        result.getExtension("subject"));
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                Assert.assertTrue(future.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.rocketmq.connect.transform.eventbridge;
+
+import com.google.gson.Gson;
+import io.openmessaging.KeyValue;
+import io.openmessaging.connector.api.data.ConnectRecord;
+import java.nio.charset.StandardCharsets;
+import org.apache.rocketmq.eventbridge.tools.pattern.EventAccessor;
+
+/**
+ * Reads the attributes of the event from the extensions of the {@link ConnectRecord}, and the data as is when it is
+ * already a json string. The binary data is decoded here and parsed by the filter on its own: the transforms of the
+ * record are loaded by other plugin class loaders, so they can't share the parsed data with the filter.
+ */
+public class ConnectRecordEventAccessor implements EventAccessor {
+
+    private static final Gson GSON = new Gson();
+
+    private final ConnectRecord record;
+
+    public ConnectRecordEventAccessor(ConnectRecord record) {
+        this.record = record;
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        KeyValue extensions = record.getExtensions();
+        return extensions == null ? null : extensions.getString(name);
+    }
+
+    @Override
+    public String getData() {
+        Object data = record.getData();
+        if (data == null) {
+            return null;
+        }
+        if (data instanceof String) {
+            return (String) data;
+        }
+        if (data instanceof byte[]) {
+            return new String((byte[]) data, StandardCharsets.UTF_8);
+        }
+        return GSON.toJson(data);
+    }
+}
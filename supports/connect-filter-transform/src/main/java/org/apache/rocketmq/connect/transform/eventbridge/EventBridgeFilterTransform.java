@@ -16,51 +16,22 @@
  */
 package org.apache.rocketmq.connect.transform.eventbridge;
 
-import com.google.common.collect.Maps;
-import com.google.gson.Gson;
-import com.google.gson.JsonElement;
-import io.cloudevents.SpecVersion;
 import io.openmessaging.KeyValue;
 import io.openmessaging.connector.api.component.ComponentContext;
 import io.openmessaging.connector.api.data.ConnectRecord;
 import org.apache.rocketmq.eventbridge.tools.pattern.PatternEvaluator;
 import org.apache.rocketmq.eventbridge.tools.pattern.PatternEvaluatorBuilder;
 
-import java.util.Map;
-
 public class EventBridgeFilterTransform implements io.openmessaging.connector.api.component.Transform {
 
     private PatternEvaluator evaluator;
 
     @Override
     public ConnectRecord doTransform(ConnectRecord record) {
-        if (!evaluator.evaluateData(new Gson().toJson(record.getData()))) {
-            return null;
-        } else if (!evaluator.evaluateSpecAttr(this.buildSpecAttr(record))) {
-            return null;
-        } else if (!evaluator.evaluateExtensionAttr(this.buildExtensionAttr(record))) {
-            return null;
-        } else {
+        if (evaluator.evaluate(new ConnectRecordEventAccessor(record))) {
             return record;
         }
-    }
-
-    private Map<String, JsonElement> buildSpecAttr(ConnectRecord record) {
-        Map<String, JsonElement> extensionsAttrs = Maps.newHashMap();
-        SpecVersion.V1.getAllAttributes()
-            .forEach(key -> {
-                if (record.getExtensions()
-                    .containsKey(key)) {
-                    extensionsAttrs.put(key, new Gson().toJsonTree(record.getExtensions()
-                        .getString(key)));
-                }
-            });
-        return extensionsAttrs;
-    }
-
-    private Map<String, JsonElement> buildExtensionAttr(ConnectRecord record) {
-        Map<String, JsonElement> extensionsAttrs = Maps.newHashMap();
-        return extensionsAttrs;
+        return null;
     }
 
     @Override
@@ -17,9 +17,13 @@
 
 package org.apache.rocketmq.connect.transform.eventbridge;
 
+import com.google.common.collect.Sets;
 import io.openmessaging.KeyValue;
 import io.openmessaging.connector.api.data.ConnectRecord;
 import io.openmessaging.internal.DefaultKeyValue;
+import java.nio.charset.StandardCharsets;
+import org.apache.rocketmq.eventbridge.config.AppConfig;
+import org.apache.rocketmq.eventbridge.config.GlobalConfig;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -39,4 +43,60 @@ public class EventBridgeFilterTransformTest {
         record.addExtension("source", "acs.mns");
         Assert.assertNotNull(transform.doTransform(record));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void doTransformWithDataPattern() {
+        EventBridgeFilterTransform transform = new EventBridgeFilterTransform();
+        KeyValue keyValue = new DefaultKeyValue();
+        keyValue.put("filterPattern", "{\"source\":[\"acs.mns\"],\"data\":{\"state\":[\"started\"]}}");
+        transform.init(keyValue);
+
+        ConnectRecord record = new ConnectRecord(null, null, System.currentTimeMillis());
+        record.addExtension("source", "acs.mns");
+        record.setData("{\"state\":\"stopped\"}");
+        Assert.assertNull(transform.doTransform(record));
+
+        record.setData("{\"state\":\"started\"}");
+        Assert.assertNotNull(transform.doTransform(record));
+
+        record.setData(null);
+        Assert.assertNull(transform.doTransform(record));
+    }
+
+    @Test
+    public void doTransformWithBinaryData() {
+        EventBridgeFilterTransform transform = new EventBridgeFilterTransform();
+        KeyValue keyValue = new DefaultKeyValue();
+        keyValue.put("filterPattern", "{\"data\":{\"state\":[\"started\"]}}");
+        transform.init(keyValue);
+
+        byte[] data = "{\"state\":\"started\"}".getBytes(StandardCharsets.UTF_8);
+        ConnectRecord record = new ConnectRecord(null, null, System.currentTimeMillis());
+        record.setData(data);
+        Assert.assertNotNull(transform.doTransform(record));
+        Assert.assertEquals("{\"state\":\"started\"}", new ConnectRecordEventAccessor(record).getData());
+    }
+
+    @Test
+    public void doTransformWithExtensionPattern() {
+        GlobalConfig originalConfig = AppConfig.getGlobalConfig();
+        GlobalConfig globalConfig = new GlobalConfig();
+        globalConfig.setEventExtensionKeys(Sets.newHashSet("aliyunregionid"));
+        AppConfig.refreshGlobalConfig(globalConfig);
+        try {
+            EventBridgeFilterTransform transform = new EventBridgeFilterTransform();
+            KeyValue keyValue = new DefaultKeyValue();
+            keyValue.put("filterPattern", "{\"aliyunregionid\":[\"cn-hangzhou\"]}");
+            transform.init(keyValue);
+
+            ConnectRecord record = new ConnectRecord(null, null, System.currentTimeMillis());
+            record.addExtension("aliyunregionid", "cn-beijing");
+            Assert.assertNull(transform.doTransform(record));
+
+            record.addExtension("aliyunregionid", "cn-hangzhou");
+            Assert.assertNotNull(transform.doTransform(record));
+        } finally {
+            AppConfig.refreshGlobalConfig(originalConfig);
+        }
+    }
+}
@@ -39,7 +39,15 @@ public class FileSinkTask extends SinkTask {
         }
         for (ConnectRecord connectRecord : sinkRecords) {
             try {
-                outputStream.println(connectRecord.getData());
+                Object data = connectRecord.getData();
+                if (data instanceof byte[]) {
+                    // the binary data is written as is, without decoding
+                    byte[] bytes = (byte[]) data;
+                    outputStream.write(bytes, 0, bytes.length);
+                    outputStream.println();
+                } else {
+                    outputStream.println(data);
+                }
             } catch (Throwable e) {
                 throw new ConnectException("Write record to file failed.", e);
             }
@@ -22,6 +22,7 @@ import io.openmessaging.KeyValue;
 import io.openmessaging.connector.api.component.task.sink.SinkTask;
 import io.openmessaging.connector.api.data.ConnectRecord;
 import io.openmessaging.connector.api.errors.ConnectException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 public class StandardSinkTask extends SinkTask {
@@ -32,7 +33,14 @@ public class StandardSinkTask extends SinkTask {
         if (sinkRecords == null || sinkRecords.isEmpty()) {
             return;
         }
-        sinkRecords.forEach(sinkRecord -> System.out.println(prefix + ":" + new Gson().toJson(sinkRecord.getData())));
+        sinkRecords.forEach(sinkRecord -> System.out.println(prefix + ":" + new Gson().toJson(toPrintable(sinkRecord.getData()))));
+    }
+
+    private static Object toPrintable(Object data) {
+        if (data instanceof byte[]) {
+            return new String((byte[]) data, StandardCharsets.UTF_8);
+        }
+        return data;
     }
 
     @Override public void pause() {